@@ -0,0 +1,65 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares directive resolution through {@link Faker#expression(String)}, which caches the accessor of
+ * each directive, with the per call reflective lookup it replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+    private Faker faker;
+
+    @Setup
+    public void setup() {
+        faker = new Faker(new Random(42));
+    }
+
+    @Benchmark
+    public String cachedAccessor() {
+        return faker.expression("#{Name.first_name}");
+    }
+
+    @Benchmark
+    public String reflectiveAccessor() throws Exception {
+        final Object name = findAccessor(faker, "name").invoke(faker);
+        return (String) findAccessor(name, "firstname").invoke(name);
+    }
+
+    @Benchmark
+    public String directCall() {
+        return faker.name().firstName();
+    }
+
+    /**
+     * The lookup done on every resolution before accessors were cached.
+     */
+    private static Method findAccessor(Object onObject, String name) {
+        for (Method m : onObject.getClass().getMethods()) {
+            if (m.getName().equalsIgnoreCase(name) && m.getParameterTypes().length == 0) {
+                return m;
+            }
+        }
+        throw new IllegalArgumentException("No " + name + " on " + onObject.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,47 @@
+package net.datafaker.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Accepts the regular JMH command line and adds two defaults:
+ * <ul>
+ * <li>results are written as JSON to {@code jmh-result.json} unless {@code -rf}/{@code -rff} are given,
+ * so runs of different releases can be compared</li>
+ * <li>{@link ProviderBenchmark} is swept over every provider method unless {@code -p method=...} is given</li>
+ * </ul>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        if (!commandLine.getParameter("method").hasValue()) {
+            final List<String> methods = Providers.methods();
+            options.param("method", methods.toArray(new String[0]));
+        }
+
+        new Runner(options.build()).run();
+    }
+}
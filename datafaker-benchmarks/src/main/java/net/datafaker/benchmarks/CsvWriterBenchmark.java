@@ -0,0 +1,105 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.output.CsvWriter;
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encodes 1,000 generated records as CSV with {@link CsvWriter}, and with a {@link BufferedWriter} and
+ * {@link String#join(CharSequence, CharSequence...)} per record. Both write to a channel discarding the bytes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvWriterBenchmark {
+    private static final int ROWS = 1_000;
+
+    private Chunk chunk;
+    private CsvWriter csvWriter;
+    private BufferedWriter bufferedWriter;
+
+    @Setup
+    public void setup() throws IOException {
+        final Schema schema = Schema.builder()
+                .column("name", f -> f.name().fullName())
+                .column("city", f -> f.address().city())
+                .intColumn("age", f -> f.number().numberBetween(18, 100))
+                .longColumn("id", f -> f.random().nextLong())
+                .build();
+        chunk = schema.newChunk(ROWS);
+        schema.fill(new Faker(new Random(42)), chunk, ROWS);
+        csvWriter = CsvWriter.builder().build(new NullChannel());
+        bufferedWriter = new BufferedWriter(new OutputStreamWriter(new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+        }, StandardCharsets.UTF_8), 1 << 20);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void csvWriter() throws IOException {
+        csvWriter.write(chunk);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void bufferedWriter() throws IOException {
+        final String[] names = chunk.strings(0);
+        final String[] cities = chunk.strings(1);
+        final int[] ages = chunk.ints(2);
+        final long[] ids = chunk.longs(3);
+        for (int row = 0; row < ROWS; row++) {
+            bufferedWriter.write(String.join(",", names[row], cities[row],
+                    Integer.toString(ages[row]), Long.toString(ids[row])));
+            bufferedWriter.write('\n');
+        }
+    }
+
+    private static final class NullChannel implements WritableByteChannel {
+        @Override
+        public int write(ByteBuffer src) {
+            final int remaining = src.remaining();
+            src.position(src.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
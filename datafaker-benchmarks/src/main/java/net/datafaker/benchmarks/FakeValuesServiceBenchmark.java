@@ -0,0 +1,97 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.service.FakeValuesService;
+import net.datafaker.service.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the resolution engine in {@link FakeValuesService}, independent of any provider.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FakeValuesServiceBenchmark {
+
+    private FakeValuesService fakeValuesService;
+    private Faker faker;
+
+    @Setup
+    public void setup() {
+        RandomService randomService = new RandomService(new Random(42));
+        fakeValuesService = new FakeValuesService(Locale.ENGLISH, randomService);
+        faker = new Faker(fakeValuesService, randomService);
+    }
+
+    @Benchmark
+    public Object fetch() {
+        return fakeValuesService.fetch("name.first_name");
+    }
+
+    @Benchmark
+    public String safeFetch() {
+        return fakeValuesService.safeFetch("address.street_suffix", null);
+    }
+
+    @Benchmark
+    public Object fetchObject() {
+        return fakeValuesService.fetchObject("address.country");
+    }
+
+    @Benchmark
+    public String resolve() {
+        return fakeValuesService.resolve("name.name", faker.name(), faker);
+    }
+
+    @Benchmark
+    public String resolveExpression() {
+        return fakeValuesService.expression("#{Name.first_name} #{Name.last_name} #{Address.city}", faker);
+    }
+
+    /**
+     * 100 resolutions of the expression of {@link #resolveExpression()} in one batch.
+     */
+    @Benchmark
+    @OperationsPerInvocation(100)
+    public List<String> resolveExpressions() {
+        return fakeValuesService.expressions("#{Name.first_name} #{Name.last_name} #{Address.city}", 100, faker);
+    }
+
+    @Benchmark
+    public String regexify() {
+        return fakeValuesService.regexify("[A-Z]{4}[A-Z]{2}[A-Z0-9]{2}([A-Z0-9]{3})?");
+    }
+
+    @Benchmark
+    public String numerify() {
+        return fakeValuesService.numerify("###-##-####");
+    }
+
+    @Benchmark
+    public String letterify() {
+        return fakeValuesService.letterify("????-????");
+    }
+
+    @Benchmark
+    public String bothify() {
+        return fakeValuesService.bothify("??##-##??");
+    }
+}
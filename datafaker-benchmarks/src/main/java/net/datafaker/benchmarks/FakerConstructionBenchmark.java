@@ -0,0 +1,49 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of creating a {@link Faker} and resolving a first value, which is when the dictionaries are loaded.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FakerConstructionBenchmark {
+
+    @Param({"en", "en-US", "de", "fr", "ja", "pt-BR", "ru", "zh-CN"})
+    private String locale;
+
+    private Locale parsedLocale;
+
+    @Setup
+    public void setup() {
+        parsedLocale = Locale.forLanguageTag(locale);
+    }
+
+    @Benchmark
+    public Faker construct() {
+        return new Faker(parsedLocale);
+    }
+
+    @Benchmark
+    public String constructAndResolve() {
+        return new Faker(parsedLocale).name().fullName();
+    }
+}
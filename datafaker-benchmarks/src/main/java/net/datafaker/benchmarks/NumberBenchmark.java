@@ -0,0 +1,109 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.Number;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The bounded random numbers of {@link Number}, one at a time and {@value #BULK} in an array, and its
+ * distributions, against the polar method of {@link Random#nextGaussian()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberBenchmark {
+    private static final int BULK = 1_000;
+
+    private Number number;
+    private Random random;
+    private final int[] ints = new int[BULK];
+
+    @Setup
+    public void setup() {
+        number = new Faker(new Random(42)).number();
+        random = new Random(42);
+    }
+
+    @Benchmark
+    public int numberBetweenInt() {
+        return number.numberBetween(18, 100);
+    }
+
+    @Benchmark
+    public long numberBetweenLong() {
+        return number.numberBetween(0L, 1_000_000_000_000L);
+    }
+
+    @Benchmark
+    public int randomDigit() {
+        return number.randomDigit();
+    }
+
+    @Benchmark
+    public String digits() {
+        return number.digits(10);
+    }
+
+    @Benchmark
+    public double randomDouble() {
+        return number.randomDouble(2, 0, 1000);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK)
+    public int[] intsBulk() {
+        number.ints(ints, 18, 100);
+        return ints;
+    }
+
+    @Benchmark
+    public double normal() {
+        return number.normal(100, 15);
+    }
+
+    @Benchmark
+    public double nextGaussian() {
+        return 100 + 15 * random.nextGaussian();
+    }
+
+    @Benchmark
+    public double logNormal() {
+        return number.logNormal(3, 0.5);
+    }
+
+    @Benchmark
+    public double exponential() {
+        return number.exponential(4);
+    }
+
+    @Benchmark
+    public long poissonSmall() {
+        return number.poisson(3);
+    }
+
+    @Benchmark
+    public long poissonLarge() {
+        return number.poisson(1_000);
+    }
+
+    @Benchmark
+    public long zipf() {
+        return number.zipf(1_000_000, 1.1);
+    }
+}
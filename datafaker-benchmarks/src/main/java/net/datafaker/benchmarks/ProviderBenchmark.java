@@ -0,0 +1,50 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks a single provider method such as {@code Name.firstName}. {@link BenchmarkRunner} sweeps
+ * {@link #method} over every public no-arg provider method found by {@link Providers}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class ProviderBenchmark {
+
+    @Param({"Name.firstName"})
+    private String method;
+
+    private Object provider;
+    private Method providerMethod;
+
+    @Setup
+    public void setup() throws Exception {
+        final Faker faker = new Faker(new Random(42));
+        final String[] providerAndMethod = method.split("\\.", 2);
+        provider = Providers.provider(faker, providerAndMethod[0]);
+        providerMethod = provider.getClass().getMethod(providerAndMethod[1]);
+    }
+
+    @Benchmark
+    public Object invoke() throws Exception {
+        return providerMethod.invoke(provider);
+    }
+}
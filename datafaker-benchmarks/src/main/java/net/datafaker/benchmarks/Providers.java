@@ -0,0 +1,67 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Discovers provider methods reflectively, the same way {@code FakerIT} walks the {@link Faker} object graph.
+ */
+final class Providers {
+
+    private Providers() {
+    }
+
+    /**
+     * @return every public no-arg method of every provider, as {@code SimpleClassName.methodName}
+     */
+    static List<String> methods() {
+        final List<String> result = new ArrayList<>();
+        for (Method accessor : sorted(Faker.class.getMethods())) {
+            if (!isProviderAccessor(accessor)) {
+                continue;
+            }
+            final Class<?> providerClass = accessor.getReturnType();
+            for (Method method : sorted(providerClass.getMethods())) {
+                if (method.getDeclaringClass() == providerClass
+                        && method.getParameterTypes().length == 0
+                        && method.getReturnType() != void.class
+                        && !Modifier.isStatic(method.getModifiers())) {
+                    result.add(providerClass.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the provider of the given simple class name, e.g. the result of {@link Faker#name()} for {@code Name}
+     */
+    static Object provider(Faker faker, String simpleClassName) throws Exception {
+        for (Method accessor : Faker.class.getMethods()) {
+            if (isProviderAccessor(accessor) && accessor.getReturnType().getSimpleName().equals(simpleClassName)) {
+                return accessor.invoke(faker);
+            }
+        }
+        throw new IllegalArgumentException("No provider named " + simpleClassName);
+    }
+
+    private static boolean isProviderAccessor(Method method) {
+        return method.getParameterTypes().length == 0
+                && !Modifier.isStatic(method.getModifiers())
+                && method.getDeclaringClass() == Faker.class
+                && method.getReturnType().getPackage() != null
+                && method.getReturnType().getPackage().getName().equals(Faker.class.getPackage().getName());
+    }
+
+    private static List<Method> sorted(Method[] methods) {
+        final List<Method> result = new ArrayList<>(Arrays.asList(methods));
+        result.sort(Comparator.comparing(Method::getName));
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.service.RandomGenerators;
+import net.datafaker.service.RandomService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the random generators of {@link RandomGenerators} with {@link java.util.Random}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomBenchmark {
+
+    @Param({"random", "splittable", "xoshiro256**", "pcg64"})
+    private String generator;
+
+    private RandomService randomService;
+    private Faker faker;
+    private final int[] ints = new int[64];
+
+    @Setup
+    public void setup() {
+        final Random random;
+        switch (generator) {
+            case "splittable":
+                random = RandomGenerators.splittable(42);
+                break;
+            case "xoshiro256**":
+                random = RandomGenerators.xoshiro256StarStar(42);
+                break;
+            case "pcg64":
+                random = RandomGenerators.pcg64(42);
+                break;
+            default:
+                random = new Random(42);
+        }
+        randomService = new RandomService(random);
+        faker = new Faker(randomService.getRandomInternal());
+    }
+
+    @Benchmark
+    public int nextInt() {
+        return randomService.nextInt(1_000);
+    }
+
+    @Benchmark
+    public int[] nextInts() {
+        randomService.nextInts(ints, 1_000);
+        return ints;
+    }
+
+    @Benchmark
+    public String loremCharacters() {
+        return faker.lorem().characters(64);
+    }
+}
@@ -0,0 +1,74 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Schema;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates 1,000 records with a {@link Schema} into a reused {@link Chunk}, and as a map per record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchemaBenchmark {
+    private static final int ROWS = 1_000;
+
+    private Faker faker;
+    private Schema schema;
+    private Chunk chunk;
+
+    @Setup
+    public void setup() {
+        faker = new Faker(new Random(42));
+        schema = Schema.builder()
+                .column("first_name", f -> f.name().firstName())
+                .intColumn("age", f -> f.number().numberBetween(18, 100))
+                .longColumn("id", f -> f.random().nextLong())
+                .doubleColumn("score", f -> f.random().nextDouble())
+                .build();
+        chunk = schema.newChunk(ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public Chunk chunk() {
+        schema.fill(faker, chunk, ROWS);
+        return chunk;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<Map<String, Object>> maps() {
+        final List<Map<String, Object>> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            final Map<String, Object> row = new LinkedHashMap<>();
+            row.put("first_name", faker.name().firstName());
+            row.put("age", faker.number().numberBetween(18, 100));
+            row.put("id", faker.random().nextLong());
+            row.put("score", faker.random().nextDouble());
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,49 @@
+package net.datafaker.benchmarks;
+
+import net.datafaker.Faker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a data set of 100,000 records with {@link Faker#stream(long, java.util.function.Function)},
+ * sequentially and in parallel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamBenchmark {
+    private static final int RECORDS = 100_000;
+
+    private Faker faker;
+
+    @Setup
+    public void setup() {
+        faker = new Faker(new Random(42));
+    }
+
+    @Benchmark
+    public List<String> sequential() {
+        return faker.stream(RECORDS, f -> f.name().fullName()).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> parallel() {
+        return faker.stream(RECORDS, f -> f.name().fullName()).parallel().collect(Collectors.toList());
+    }
+}
@@ -1,5 +1,7 @@
 package net.datafaker;
 
+import net.datafaker.checksum.Gtin;
+
 public class Barcode {
     private final Faker faker;
 
@@ -31,17 +33,6 @@ public class Barcode {
         return ean8();
     }
 
-    private static int roundToHighestMultiplyOfTen(int number) {
-        if (number % 10 == 0)
-            return number;
-        else {
-            int ones = number % 10;
-            int add = 10 - ones;
-            return number + add;
-        }
-
-    }
-
     private long ean(int length) {
         long first = 0;
         switch (length) {
@@ -58,29 +49,7 @@ public class Barcode {
                 first = this.faker.number().randomNumber(11, true);
                 break;
         }
-        char[] array = String.valueOf(first).toCharArray();
-        int odd = 0;
-        int even = 0;
-        for (int i = 0; i < array.length; i++) {
-            int digit = Integer.parseInt(String.valueOf(array[i]));
-            if ((i + 1) % 2 == 0)
-                even += digit;
-            else
-                odd += digit;
-        }
-        int var = 0;
-
-        if (length == 13) {
-            var = (even * 3) + odd;
-        }
-        if (length == 8 || length == 14 || length == 12) {
-            var = (odd * 3) + even;
-        }
-
-        int rounded = roundToHighestMultiplyOfTen((var));
-        int checkDigit = rounded - var;
-
-        return Long.parseLong(first + String.valueOf(checkDigit));
+        return first * 10 + Gtin.checkDigit(first);
     }
 
     public String type() {
@@ -1,15 +1,14 @@
 package net.datafaker;
 
-import java.util.List;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import net.datafaker.checksum.Gtin;
+import net.datafaker.checksum.Isbn;
+import net.datafaker.checksum.Luhn;
 
 /**
  * ISBN Rules : https://en.wikipedia.org/wiki/International_Standard_Book_Number
  */
 public class Code {
 
-    private static final Pattern HYPHEN = Pattern.compile("-");
     private final Faker faker;
 
     protected Code(Faker faker) {
@@ -93,9 +92,9 @@ public class Code {
                 .append(faker.expression("#{code.isbn_registrant}"))
                 .append('-');
 
-        final int checkDigit = isbn10CheckDigit(isbn10);
-        isbn10.append(checkDigit != 10 ? checkDigit : "X");
-        return separator ? isbn10.toString() : stripIsbnSeparator(isbn10);
+        final char[] chars = withCheckDigit(isbn10);
+        chars[chars.length - 1] = Isbn.checkChar10(chars, 0, chars.length - 1);
+        return separator ? new String(chars) : stripIsbnSeparator(chars);
     }
 
     /**
@@ -119,34 +118,28 @@ public class Code {
                 .append(faker.expression("#{code.isbn_registrant}"))
                 .append('-');
 
-        final int checkDigit = isbn13CheckDigit(isbn13);
-        isbn13.append(checkDigit);
-        return separator ? isbn13.toString() : stripIsbnSeparator(isbn13);
+        final char[] chars = withCheckDigit(isbn13);
+        chars[chars.length - 1] = (char) ('0' + Isbn.checkDigit13(chars, 0, chars.length - 1));
+        return separator ? new String(chars) : stripIsbnSeparator(chars);
     }
 
-    private int isbn10CheckDigit(CharSequence t) {
-        String value = stripIsbnSeparator(t);
-        int sum = 0;
-        for (int i = 0; i < value.length(); i++) {
-            sum += ((i + 1) * Integer.parseInt(value.substring(i, i + 1)));
-        }
-        return sum % 11;
+    /**
+     * @return the characters with a last one for the check digit
+     */
+    private static char[] withCheckDigit(StringBuilder sb) {
+        final char[] chars = new char[sb.length() + 1];
+        sb.getChars(0, sb.length(), chars, 0);
+        return chars;
     }
 
-    private int isbn13CheckDigit(CharSequence t) {
-        String value = stripIsbnSeparator(t);
-        int sum = 0;
-        int multiplier;
-        for (int i = 0; i < value.length(); i++) {
-            multiplier = i % 2 == 0 ? 1 : 3;
-            sum += multiplier * Integer.parseInt(value.subSequence(i, i + 1).toString());
+    private static String stripIsbnSeparator(char[] chars) {
+        int length = 0;
+        for (char c : chars) {
+            if (c != '-') {
+                chars[length++] = c;
+            }
         }
-
-        return (10 - sum % 10) % 10;
-    }
-
-    private String stripIsbnSeparator(CharSequence t) {
-        return HYPHEN.matcher(t.toString()).replaceAll("");
+        return new String(chars, 0, length);
     }
 
     public String asin() {
@@ -167,25 +160,8 @@ public class Code {
             str[i] = Character.forDigit(faker.number().numberBetween(0, 9), 10);
         }
 
-        // Calculate the Luhn checksum of the values thus far
-        int lenOffset = (len + 1) % 2;
-        int sum = 0;
-        for (int i = 0; i < len - 1; i++) {
-            if ((i + lenOffset) % 2 != 0) {
-                int t = Character.getNumericValue(str[i]) << 1;
-
-                if (t > 9) {
-                    t -= 9;
-                }
-
-                sum += t;
-            } else {
-                sum += Character.getNumericValue(str[i]);
-            }
-        }
-
-        // Choose the last digit so that it causes the entire string to pass the checksum.
-        str[len - 1] = Character.forDigit(((10 - (sum % 10)) % 10), 10);
+        // Choose the last digit so that it causes the entire string to pass the Luhn checksum.
+        str[len - 1] = (char) ('0' + Luhn.checkDigit(str, 0, len - 1));
 
         return new String(str);
     }
@@ -198,40 +174,24 @@ public class Code {
     }
 
     public String gtin8() {
-        return gtin("\\d{7}", GTIN_8_CHECK_DIGITS);
+        return gtin(8);
     }
 
     public String gtin13() {
-        return gtin("\\d{12}", GTIN_13_CHECK_DIGITS);
+        return gtin(13);
     }
 
     public String ean13() {
         return gtin13();
     }
 
-    private String gtin(String regex, int[] checkDigits) {
-        List<Character> values = faker.regexify(regex)
-                .chars()
-                .mapToObj(c -> (char) c)
-                .collect(Collectors.toList());
-
-        int sum = 0;
-        for (int i = 0; i < values.size(); i++) {
-            sum += Character.getNumericValue(values.get(i)) * checkDigits[i];
-        }
-        int checkDigit = 10 - sum % 10;
-        if (checkDigit == 10) {
-            values.add(Character.forDigit(0, 10));
-        } else {
-            values.add(Character.forDigit(checkDigit, 10));
+    private String gtin(int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length - 1; i++) {
+            chars[i] = (char) ('0' + faker.random().nextInt(10));
         }
-
-        return values.stream()
-                .map(String::valueOf)
-                .collect(Collectors.joining());
+        chars[length - 1] = (char) ('0' + Gtin.checkDigit(chars, 0, length - 1));
+        return new String(chars);
     }
 
-    private static final int[] GTIN_8_CHECK_DIGITS = {3, 1, 3, 1, 3, 1, 3};
-    private static final int[] GTIN_13_CHECK_DIGITS = {1, 3, 1, 3, 1, 3, 1, 3, 1, 3, 1, 3};
-
 }
@@ -0,0 +1,109 @@
+package net.datafaker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A collection of fake values, built from one or more suppliers:
+ * <pre>
+ * List&lt;String&gt; names = faker.collection(() -&gt; faker.name().firstName(), () -&gt; faker.name().lastName())
+ *     .len(3, 5)
+ *     .build()
+ *     .get();
+ * </pre>
+ * With several suppliers, each element is taken from a randomly chosen one.
+ */
+public class FakeCollection<T> {
+    private final Faker faker;
+    private final List<Supplier<T>> suppliers;
+    private final int minLength;
+    private final int maxLength;
+
+    private FakeCollection(Faker faker, List<Supplier<T>> suppliers, int minLength, int maxLength) {
+        this.faker = faker;
+        this.suppliers = suppliers;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * @return a new list of fake values
+     */
+    public List<T> get() {
+        final int length = minLength == maxLength ? minLength : faker.random().nextInt(minLength, maxLength);
+        final List<T> result = new ArrayList<>(length);
+        if (suppliers.size() == 1) {
+            final Supplier<T> supplier = suppliers.get(0);
+            for (int i = 0; i < length; i++) {
+                result.add(supplier.get());
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                result.add(suppliers.get(faker.random().nextInt(suppliers.size())).get());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return a stream of new fake values, of the same length as {@link #get()}
+     */
+    public Stream<T> stream() {
+        return get().stream();
+    }
+
+    public static class Builder<T> {
+        private final Faker faker;
+        private final List<Supplier<T>> suppliers;
+        private int minLength = -1;
+        private int maxLength = -1;
+
+        Builder(Faker faker, List<Supplier<T>> suppliers) {
+            this.faker = faker;
+            this.suppliers = suppliers;
+        }
+
+        /**
+         * Adds suppliers to choose the elements from.
+         */
+        @SafeVarargs
+        public final Builder<T> suppliers(Supplier<T>... suppliers) {
+            this.suppliers.addAll(Arrays.asList(suppliers));
+            return this;
+        }
+
+        /**
+         * @param length the number of elements of the collection
+         */
+        public Builder<T> len(int length) {
+            return len(length, length);
+        }
+
+        /**
+         * @param minLength the minimum number of elements of the collection (inclusive)
+         * @param maxLength the maximum number of elements of the collection (inclusive)
+         */
+        public Builder<T> len(int minLength, int maxLength) {
+            this.minLength = minLength;
+            this.maxLength = maxLength;
+            return this;
+        }
+
+        public FakeCollection<T> build() {
+            if (suppliers.isEmpty()) {
+                throw new IllegalArgumentException("At least one supplier is required");
+            }
+            if (minLength < 0) {
+                throw new IllegalArgumentException("The length of the collection must be set and not negative");
+            }
+            if (minLength > maxLength) {
+                throw new IllegalArgumentException("Minimum length " + minLength + " is greater than maximum length " + maxLength);
+            }
+            return new FakeCollection<>(faker, Collections.unmodifiableList(new ArrayList<>(suppliers)), minLength, maxLength);
+        }
+    }
+}
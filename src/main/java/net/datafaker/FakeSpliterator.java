@@ -0,0 +1,85 @@
+package net.datafaker;
+
+import net.datafaker.service.CounterBasedRandom;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Generates the records {@code [from, to)} of a data set with a function of a {@link Faker}.
+ * <p>
+ * Record {@code i} is generated from the stream {@code i} of a {@link CounterBasedRandom} of the seed, so it
+ * doesn't depend on how the data set is split: a parallel stream produces exactly the records of a sequential
+ * one, and the same records as {@link Faker#at(long)}. Each split creates one record {@link Faker} and
+ * {@link Faker#seek(long) seeks} it to each of its records.
+ */
+final class FakeSpliterator<T> implements Spliterator<T> {
+    /**
+     * Every split creates a {@link Faker}, so ranges smaller than this are not split.
+     */
+    static final int MIN_SPLIT_SIZE = 256;
+
+    private final Faker dataset;
+    private final long seed;
+    private final Function<Faker, T> function;
+    private long from;
+    private final long to;
+
+    private Faker faker;
+
+    FakeSpliterator(Faker dataset, long seed, Function<Faker, T> function, long from, long to) {
+        this.dataset = dataset;
+        this.seed = seed;
+        this.function = function;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (from >= to) {
+            return false;
+        }
+        action.accept(next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (from < to) {
+            action.accept(next());
+        }
+    }
+
+    private T next() {
+        if (faker == null) {
+            faker = Faker.recordFaker(dataset, seed, from);
+        } else {
+            faker.seek(from);
+        }
+        from++;
+        return function.apply(faker);
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (to - from < 2 * MIN_SPLIT_SIZE) {
+            return null;
+        }
+        final long middle = from + (to - from) / 2;
+        final FakeSpliterator<T> prefix = new FakeSpliterator<>(dataset, seed, function, from, middle);
+        from = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return to - from;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -1,20 +1,42 @@
 package net.datafaker;
 
+import net.datafaker.service.CounterBasedRandom;
 import net.datafaker.service.FakeValuesService;
 import net.datafaker.service.RandomService;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides utility methods for generating fake strings, such as names, phone
  * numbers, addresses. generate random strings with given patterns
+ * <p>
+ * A Faker can be shared between threads. To avoid contention on a single {@link Random}, create it with a
+ * {@link net.datafaker.service.PerThreadRandom}, which gives each thread its own stream derived from the seed.
+ * Fakers without a random do so by default.
  *
  * @author ren
  */
 public class Faker {
     private final RandomService randomService;
     private final FakeValuesService fakeValuesService;
+    private volatile Long datasetSeed;
+    /**
+     * For the fakers of the records of a data set: the seed of the data set and the index of the record, -1 for
+     * other fakers.
+     */
+    private long recordSeed;
+    private long recordIndex = -1;
+    private CounterBasedRandom recordRandom;
+    private Faker dataset;
+    private volatile Unique unique;
 
     private final Address address;
     private final Ancient ancient;
@@ -78,6 +100,7 @@ public class Faker {
     private final Hobbit hobbit;
     private final HowIMetYourMother howIMetYourMother;
     private final IdNumber idNumber;
+    private final Identifier identifier;
     private final Internet internet;
     private final Job job;
     private final Kaamelott kaamelott;
@@ -215,6 +238,7 @@ public class Faker {
         this.hobbit = new Hobbit(this);
         this.howIMetYourMother = new HowIMetYourMother(this);
         this.idNumber = new IdNumber(this);
+        this.identifier = new Identifier(this);
         this.internet = new Internet(this);
         this.job = new Job(this);
         this.kaamelott = new Kaamelott(this);
@@ -499,6 +523,10 @@ public class Faker {
         return idNumber;
     }
 
+    public Identifier identifier() {
+        return identifier;
+    }
+
     public Options options() {
         return options;
     }
@@ -867,6 +895,158 @@ public class Faker {
         return this.fakeValuesService.expression(expression, this);
     }
 
+    /**
+     * Evaluates an expression {@code count} times, see {@link #expression(String)}. The expression is only
+     * compiled once, which makes this cheaper than calling {@link #expression(String)} in a loop.
+     *
+     * @return a new list of {@code count} evaluated expressions
+     */
+    public List<String> expressions(String expression, int count) {
+        return this.fakeValuesService.expressions(expression, count, this);
+    }
+
+    /**
+     * Returns an infinite stream of values of the supplier, e.g.
+     * {@code faker.stream(() -> faker.name().fullName()).limit(1000)}.
+     */
+    public <T> Stream<T> stream(Supplier<T> supplier) {
+        return Stream.generate(supplier);
+    }
+
+    /**
+     * Returns a stream of the first {@code count} records of the data set of this faker, generated by the
+     * function, e.g. {@code faker.stream(1_000_000, f -> f.name().fullName()).parallel()}.
+     * <p>
+     * The function is given a {@link Faker} with the dictionaries of this one, but not this one: record {@code i} is
+     * generated with the faker of {@link #at(long) at(i)}. The stream can be made parallel and then generates
+     * exactly the records of the sequential stream, in any order of processing. The function must therefore
+     * only use the faker it is given.
+     */
+    public <T> Stream<T> stream(long count, Function<Faker, T> function) {
+        return stream(0, count, function);
+    }
+
+    /**
+     * Returns a stream of the records {@code from} (inclusive) to {@code to} (exclusive) of the data set of this
+     * faker, see {@link #stream(long, Function)}. Disjoint ranges can be generated independently, e.g. by
+     * different processes, and together give the records of a single stream.
+     */
+    public <T> Stream<T> stream(long from, long to, Function<Faker, T> function) {
+        if (from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid range [" + from + ", " + to + ")");
+        }
+        return StreamSupport.stream(new FakeSpliterator<>(this, datasetSeed(), function, from, to), false);
+    }
+
+    /**
+     * Returns a faker for record {@code index} of the data set of this faker. Its random is a
+     * {@link CounterBasedRandom} keyed by the seed of the data set and the index, so any record can be
+     * generated again without generating the ones before it:
+     * {@code faker.at(5_000_000_000L).name().fullName()} always gives the same name for a given data set.
+     * <p>
+     * The seed of the data set is drawn from this faker's random the first time {@code at} or
+     * {@link #stream(long, Function)} is called, so fakers created with the same seed have the same data set
+     * when they are used in the same way until then. The faker resolves values with the
+     * {@link FakeValuesService#withRandomService(RandomService) FakeValuesService} of this one.
+     * <p>
+     * Each call creates a faker with all its providers, which costs much more than generating a value. To
+     * visit many records, move a single record faker with {@link #seek(long)}, or use
+     * {@link #stream(long, long, Function)}.
+     */
+    public Faker at(long index) {
+        return recordFaker(this, datasetSeed(), index);
+    }
+
+    /**
+     * Makes this faker, returned by {@link #at(long)}, the faker of record {@code index} of its data set, as if
+     * it had been returned by {@code at(index)}, e.g.
+     * {@code Faker record = faker.at(0); for (long i : indexes) names.add(record.seek(i).name().fullName());}.
+     * A record faker must not be used by several threads.
+     *
+     * @return this faker
+     * @throws IllegalStateException if this faker was not returned by {@link #at(long)}
+     */
+    public Faker seek(long index) {
+        if (recordRandom == null) {
+            throw new IllegalStateException("Only the faker of a record, returned by at(long), can seek");
+        }
+        recordRandom.reset(recordSeed, index);
+        recordIndex = index;
+        return this;
+    }
+
+    /**
+     * Creates the faker of record {@code index} of the data set of a faker, with the seed of the data set.
+     */
+    static Faker recordFaker(Faker dataset, long seed, long index) {
+        final CounterBasedRandom counter = new CounterBasedRandom(seed, index);
+        final RandomService random = new RandomService(counter);
+        final Faker faker = new Faker(dataset.fakeValuesService.withRandomService(random), random);
+        faker.dataset = dataset;
+        faker.recordRandom = counter;
+        faker.recordSeed = seed;
+        faker.recordIndex = index;
+        return faker;
+    }
+
+    long recordSeed() {
+        return recordSeed;
+    }
+
+    /**
+     * @return the index of the record of this faker, or -1 if it is not the faker of a record
+     */
+    long recordIndex() {
+        return recordIndex;
+    }
+
+    private long datasetSeed() {
+        Long seed = datasetSeed;
+        if (seed == null) {
+            synchronized (this) {
+                seed = datasetSeed;
+                if (seed == null) {
+                    seed = randomService.nextLong();
+                    datasetSeed = seed;
+                }
+            }
+        }
+        return seed;
+    }
+
+    /**
+     * Returns the generator of values that don't repeat of this faker, see {@link Unique}. The values returned
+     * are tracked as long as this faker is used, or until {@link Unique#clear()}.
+     * <p>
+     * The faker of a record, given by {@link #at(long)} or to the function of {@link #stream(long, Function)},
+     * tracks its values with the faker of the data set, so they don't repeat across records. A value which was
+     * already returned is generated again from the record's random, so a stream using {@code unique()} gives
+     * the same records on every run only if it is sequential: in a parallel stream, which record gets a value
+     * first depends on the scheduling.
+     */
+    public Unique unique() {
+        Unique result = unique;
+        if (result == null) {
+            synchronized (this) {
+                result = unique;
+                if (result == null) {
+                    result = dataset == null ? new Unique(this) : new Unique(this, dataset.unique());
+                    unique = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Starts building a collection of values of the suppliers, e.g.
+     * {@code faker.collection(() -> faker.name().fullName()).len(1000).build().get()}.
+     */
+    @SafeVarargs
+    public final <T> FakeCollection.Builder<T> collection(Supplier<T>... suppliers) {
+        return new FakeCollection.Builder<>(this, new ArrayList<>(Arrays.asList(suppliers)));
+    }
+
     public NatoPhoneticAlphabet natoPhoneticAlphabet() {
         return new NatoPhoneticAlphabet(this);
     }
@@ -1,15 +1,14 @@
 package net.datafaker;
 
-import java.math.BigInteger;
+import net.datafaker.checksum.Iban;
+import net.datafaker.checksum.Luhn;
+
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 public class Finance {
-    private static final Pattern NUMBERS = Pattern.compile("[^0-9]");
-    private static final Pattern EMPTY_STRING = Pattern.compile("");
     private final Faker faker;
 
     protected Finance(Faker faker) {
@@ -23,24 +22,21 @@ public class Finance {
     public String creditCard(CreditCardType creditCardType) {
         final String key = String.format("finance.credit_card.%s", creditCardType.toString().toLowerCase());
         String value = faker.fakeValuesService().resolve(key, this, faker);
-        final String template = faker.numerify(value);
-
-        String[] split = EMPTY_STRING.split(NUMBERS.matcher(template).replaceAll(""));
-        List<Integer> reversedAsInt = new ArrayList<>();
-        for (int i = 0; i < split.length; i++) {
-            final String current = split[split.length - 1 - i];
-            if (!current.isEmpty()) {
-                reversedAsInt.add(Integer.valueOf(current));
+        final char[] template = faker.numerify(value).toCharArray();
+
+        // the template is between slashes, and the Luhn digit is L
+        int luhnDigit = -1;
+        for (int i = 0; i < template.length; i++) {
+            if (template[i] == '\\' || template[i] == '/') {
+                template[i] = ' ';
+            } else if (template[i] == 'L') {
+                luhnDigit = i;
             }
         }
-        int luhnSum = 0;
-        int multiplier = 1;
-        for (Integer digit : reversedAsInt) {
-            multiplier = (multiplier == 2 ? 1 : 2);
-            luhnSum += sum(EMPTY_STRING.split(String.valueOf(digit * multiplier)));
+        if (luhnDigit >= 0) {
+            template[luhnDigit] = (char) ('0' + Luhn.checkDigit(template, 0, luhnDigit));
         }
-        int luhnDigit = (10 - (luhnSum % 10)) % 10;
-        return template.replace('\\', ' ').replace('/', ' ').trim().replace('L', String.valueOf(luhnDigit).charAt(0));
+        return new String(template).trim();
     }
 
     public String creditCard() {
@@ -63,54 +59,19 @@ public class Finance {
 
     public String iban(String countryCode) {
         String basicBankAccountNumber = faker.regexify(countryCodeToBasicBankAccountNumberPattern.get(countryCode));
-        String checkSum = calculateIbanChecksum(countryCode, basicBankAccountNumber);
-        return countryCode + checkSum + basicBankAccountNumber;
+        final int checkDigits = Iban.checkDigits(countryCode, basicBankAccountNumber);
+        return new StringBuilder(countryCode.length() + 2 + basicBankAccountNumber.length())
+                .append(countryCode)
+                .append((char) ('0' + checkDigits / 10))
+                .append((char) ('0' + checkDigits % 10))
+                .append(basicBankAccountNumber)
+                .toString();
     }
 
     private CreditCardType randomCreditCardType() {
         return CreditCardType.values()[this.faker.random().nextInt(CreditCardType.values().length)];
     }
 
-    private static int sum(String[] string) {
-        int sum = 0;
-        for (String s : string) {
-            if (!s.isEmpty()) {
-                sum += Integer.parseInt(s);
-            }
-        }
-        return sum;
-    }
-
-    private static String calculateIbanChecksum(String countryCode, String basicBankAccountNumber) {
-        String basis = basicBankAccountNumber + countryCode + "00";
-
-        StringBuilder sb = new StringBuilder();
-        char[] characters = basis.toLowerCase().toCharArray();
-        for (char c : characters) {
-            if (Character.isLetter(c)) {
-                sb.append((c - 'a') + 10);
-            } else {
-                sb.append(c);
-            }
-        }
-
-        int mod97 = new BigInteger(sb.toString()).mod(BigInteger.valueOf(97L)).intValue();
-        return padLeftZeros(String.valueOf(98 - mod97), 2);
-    }
-
-    private static String padLeftZeros(String inputString, int length) {
-        if (inputString.length() >= length) {
-            return inputString;
-        }
-        StringBuilder sb = new StringBuilder();
-        while (sb.length() < length - inputString.length()) {
-            sb.append('0');
-        }
-        sb.append(inputString);
-
-        return sb.toString();
-    }
-
     private static Map<String, String> createCountryCodeToBasicBankAccountNumberPatternMap() {
         // source: https://www.swift.com/standards/data-standards/iban
         // version 87
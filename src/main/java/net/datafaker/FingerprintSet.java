@@ -0,0 +1,113 @@
+package net.datafaker;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * A set of 64-bit fingerprints in direct memory, with open addressing and linear probing. An entry takes 8 bytes
+ * per slot and the table is at most 3/4 full, so 100 million fingerprints take 2 GiB outside of the heap
+ * (mind {@code -XX:MaxDirectMemorySize}), and the garbage collector only sees a few buffers.
+ * <p>
+ * The table is split in pages of 2<sup>24</sup> slots, as a buffer holds at most 2 GiB. The fingerprints must be
+ * well mixed, as their low bits are used as slot. The fingerprint 0 marks empty slots and is stored as 1.
+ * The set is not thread safe.
+ */
+final class FingerprintSet {
+    private static final int PAGE_SHIFT = 24;
+    private static final long PAGE_MASK = (1L << PAGE_SHIFT) - 1;
+    private static final long INITIAL_CAPACITY = 1 << 10;
+
+    private LongBuffer[] pages;
+    private long mask;
+    private long size;
+    private long threshold;
+
+    FingerprintSet() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @return whether the fingerprint was added, {@code false} if it was already in the set
+     */
+    boolean add(long fingerprint) {
+        if (fingerprint == 0) {
+            fingerprint = 1;
+        }
+        for (long slot = fingerprint & mask; ; slot = (slot + 1) & mask) {
+            final long current = get(slot);
+            if (current == fingerprint) {
+                return false;
+            }
+            if (current == 0) {
+                set(slot, fingerprint);
+                if (++size > threshold) {
+                    grow();
+                }
+                return true;
+            }
+        }
+    }
+
+    boolean contains(long fingerprint) {
+        if (fingerprint == 0) {
+            fingerprint = 1;
+        }
+        for (long slot = fingerprint & mask; ; slot = (slot + 1) & mask) {
+            final long current = get(slot);
+            if (current == fingerprint) {
+                return true;
+            }
+            if (current == 0) {
+                return false;
+            }
+        }
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Removes all fingerprints and releases the memory of a grown table.
+     */
+    void clear() {
+        allocate(INITIAL_CAPACITY);
+        size = 0;
+    }
+
+    private void grow() {
+        final LongBuffer[] old = pages;
+        allocate(2 * (mask + 1));
+        for (LongBuffer page : old) {
+            for (int i = 0; i < page.capacity(); i++) {
+                final long fingerprint = page.get(i);
+                if (fingerprint != 0) {
+                    long slot = fingerprint & mask;
+                    while (get(slot) != 0) {
+                        slot = (slot + 1) & mask;
+                    }
+                    set(slot, fingerprint);
+                }
+            }
+        }
+    }
+
+    private void allocate(long capacity) {
+        final long pageSize = Math.min(capacity, 1L << PAGE_SHIFT);
+        pages = new LongBuffer[(int) (capacity / pageSize)];
+        for (int i = 0; i < pages.length; i++) {
+            pages[i] = ByteBuffer.allocateDirect((int) pageSize * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        }
+        mask = capacity - 1;
+        threshold = capacity / 4 * 3;
+    }
+
+    private long get(long slot) {
+        return pages[(int) (slot >>> PAGE_SHIFT)].get((int) (slot & PAGE_MASK));
+    }
+
+    private void set(long slot, long fingerprint) {
+        pages[(int) (slot >>> PAGE_SHIFT)].put((int) (slot & PAGE_MASK), fingerprint);
+    }
+}
@@ -0,0 +1,205 @@
+package net.datafaker;
+
+import net.datafaker.service.RandomGenerators;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identifiers: random UUIDs and the time-ordered UUIDv7, ULID, KSUID and Snowflake IDs.
+ * <p>
+ * All identifiers are drawn from the random of the faker, so they are reproducible with a seed, and formatted
+ * straight from their bits into a {@code char[]}. Time-ordered identifiers don't read the system clock: they
+ * are stamped by a virtual clock starting at a random time between 2020 and 2030, which advances one
+ * millisecond every 4,096 identifiers. Each identifier takes the next value of a lock-free sequence, which is
+ * also written after the timestamp, so identifiers of all kinds increase in the order of their generation,
+ * even between threads, and sort as strings.
+ * <p>
+ * The fakers of the records of a data set, see {@link Faker#at(long)}, keep no sequence: the clock and the
+ * worker id are derived from the seed of the data set, and the virtual time is the index of the record in
+ * milliseconds, followed by the number of identifiers generated before in the record, up to 4,096. The
+ * identifiers of a record are therefore the same whether the data set is generated sequentially, in parallel
+ * or one record at a time, and they increase with the index of the record.
+ */
+public class Identifier {
+    static final long CLOCK_START = 1577836800000L;
+    static final long CLOCK_RANGE = 10L * 365 * 24 * 3600 * 1000;
+    static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long TWITTER_EPOCH = 1288834974657L;
+    private static final long KSUID_EPOCH = 1400000000L;
+    /**
+     * Streams of the seed of a data set, apart from the ones of the records, for its clock and worker id.
+     */
+    private static final long CLOCK_STREAM = -1;
+    private static final long WORKER_STREAM = -2;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final char[] BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private final Faker faker;
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long clockStart = -1;
+    private volatile long workerId = -1;
+    private long lastRecord = -1;
+    private long recordSequence;
+
+    protected Identifier(Faker faker) {
+        this.faker = faker;
+    }
+
+    /**
+     * @return a random (version 4) UUID, e.g. {@code 3e6d5b4f-8a1c-4f2e-9b7d-0c1a2b3c4d5e}
+     */
+    public String uuid() {
+        final long msb = (faker.random().nextLong() & ~0xF000L) | 0x4000L;
+        return formatUuid(msb, variant(faker.random().nextLong()));
+    }
+
+    /**
+     * @return a time-ordered (version 7) UUID: a 48-bit millisecond timestamp, the version, a 12-bit sequence
+     * and random bits
+     */
+    public String uuidV7() {
+        final long tick = tick();
+        final long msb = (millis(tick) << 16) | 0x7000L | (tick & SEQUENCE_MASK);
+        return formatUuid(msb, variant(faker.random().nextLong()));
+    }
+
+    /**
+     * @return a ULID: a 48-bit millisecond timestamp and 80 bits starting with a 12-bit sequence, in 26
+     * characters of Crockford's base 32
+     */
+    public String ulid() {
+        final long tick = tick();
+        final long random = faker.random().nextLong();
+        // 48-bit time, 12-bit sequence, 68 random bits
+        final long high = (millis(tick) << 16) | ((tick & SEQUENCE_MASK) << 4) | (random >>> 60);
+        final long low = faker.random().nextLong();
+        final char[] chars = new char[26];
+        // 130 bits, of which the first 2 are 0
+        chars[0] = CROCKFORD[(int) (high >>> 61)];
+        for (int i = 1; i < 13; i++) {
+            chars[i] = CROCKFORD[(int) (high >>> (61 - 5 * i)) & 31];
+        }
+        // the last bit of high and the first 4 bits of low
+        chars[13] = CROCKFORD[(int) (((high & 1) << 4) | (low >>> 60))];
+        for (int i = 14; i < 26; i++) {
+            chars[i] = CROCKFORD[(int) (low >>> (60 - 5 * (i - 13))) & 31];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return a KSUID: a 32-bit timestamp in seconds since 2014-05-13 and a 128-bit payload starting with the
+     * milliseconds and a 12-bit sequence, in 27 characters of base 62
+     */
+    public String ksuid() {
+        final long tick = tick();
+        final long millis = millis(tick);
+        final long seconds = millis / 1000 - KSUID_EPOCH;
+        final long order = ((millis % 1000) << SEQUENCE_BITS) | (tick & SEQUENCE_MASK);
+        final long payloadHigh = (order << 42) | (faker.random().nextLong() >>> 22);
+        final long payloadLow = faker.random().nextLong();
+        // 160 bits as 32-bit digits, most significant first
+        final int[] number = {
+            (int) seconds,
+            (int) (payloadHigh >>> 32), (int) payloadHigh,
+            (int) (payloadLow >>> 32), (int) payloadLow
+        };
+        final char[] chars = new char[27];
+        for (int i = chars.length - 1; i >= 0; i--) {
+            long remainder = 0;
+            for (int d = 0; d < number.length; d++) {
+                final long dividend = (remainder << 32) | (number[d] & 0xFFFFFFFFL);
+                number[d] = (int) (dividend / 62);
+                remainder = dividend % 62;
+            }
+            chars[i] = BASE62[(int) remainder];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @return a Snowflake ID: a 41-bit millisecond timestamp since the Twitter epoch, a 10-bit worker id, drawn
+     * once per faker, and a 12-bit sequence
+     */
+    public long snowflake() {
+        final long tick = tick();
+        return ((millis(tick) - TWITTER_EPOCH) << 22) | (workerId() << SEQUENCE_BITS) | (tick & SEQUENCE_MASK);
+    }
+
+    private long tick() {
+        final long record = faker.recordIndex();
+        if (record < 0) {
+            return sequence.getAndIncrement();
+        }
+        synchronized (this) {
+            if (record != lastRecord) {
+                lastRecord = record;
+                recordSequence = 0;
+            }
+            return (record << SEQUENCE_BITS) | (recordSequence++ & SEQUENCE_MASK);
+        }
+    }
+
+    private long millis(long tick) {
+        if (faker.recordIndex() >= 0) {
+            final long seed = RandomGenerators.derivedSeed(faker.recordSeed(), CLOCK_STREAM);
+            return CLOCK_START + Math.floorMod(seed, CLOCK_RANGE) + (tick >>> SEQUENCE_BITS);
+        }
+        long start = clockStart;
+        if (start < 0) {
+            synchronized (this) {
+                start = clockStart;
+                if (start < 0) {
+                    start = CLOCK_START + faker.random().nextLong(CLOCK_RANGE);
+                    clockStart = start;
+                }
+            }
+        }
+        return start + (tick >>> SEQUENCE_BITS);
+    }
+
+    private long workerId() {
+        if (faker.recordIndex() >= 0) {
+            return RandomGenerators.derivedSeed(faker.recordSeed(), WORKER_STREAM) & 1023;
+        }
+        long id = workerId;
+        if (id < 0) {
+            synchronized (this) {
+                id = workerId;
+                if (id < 0) {
+                    id = faker.random().nextInt(1024);
+                    workerId = id;
+                }
+            }
+        }
+        return id;
+    }
+
+    private static long variant(long lsb) {
+        return (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    }
+
+    private static String formatUuid(long msb, long lsb) {
+        final char[] chars = new char[36];
+        hex(chars, 0, msb >>> 32, 8);
+        chars[8] = '-';
+        hex(chars, 9, msb >>> 16, 4);
+        chars[13] = '-';
+        hex(chars, 14, msb, 4);
+        chars[18] = '-';
+        hex(chars, 19, lsb >>> 48, 4);
+        chars[23] = '-';
+        hex(chars, 24, lsb, 12);
+        return new String(chars);
+    }
+
+    private static void hex(char[] chars, int offset, long value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            chars[i] = HEX[(int) value & 0xF];
+            value >>>= 4;
+        }
+    }
+}
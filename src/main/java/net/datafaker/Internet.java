@@ -6,7 +6,6 @@ import net.datafaker.service.RandomService;
 import java.text.Normalizer;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 import java.util.regex.Pattern;
 
 public class Internet {
@@ -305,7 +304,7 @@ public class Internet {
      * @return A UUID as String.
      */
     public String uuid() {
-        return UUID.randomUUID().toString();
+        return faker.identifier().uuid();
     }
 
     private <T> T random(T[] src) {
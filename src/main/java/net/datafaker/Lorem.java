@@ -65,17 +65,20 @@ public class Lorem {
         if (fixedNumberOfCharacters < 1) {
             return "";
         }
+        final char[] alphabet = includeDigit ? characters : letters;
         char[] buffer = new char[fixedNumberOfCharacters];
-        for (int i = 0; i < buffer.length; i++) {
-            char randomCharacter;
-
-            if (includeDigit) {
-                randomCharacter = characters[faker.random().nextInt(characters.length)];
-            } else {
-                randomCharacter = letters[faker.random().nextInt(letters.length)];
+        if (!includeUppercase) {
+            final int[] indexes = new int[fixedNumberOfCharacters];
+            faker.random().nextInts(indexes, alphabet.length);
+            for (int i = 0; i < buffer.length; i++) {
+                buffer[i] = alphabet[indexes[i]];
             }
+            return new String(buffer);
+        }
+        for (int i = 0; i < buffer.length; i++) {
+            char randomCharacter = alphabet[faker.random().nextInt(alphabet.length)];
 
-            if (includeUppercase && faker.bool().bool()) {
+            if (faker.bool().bool()) {
                 randomCharacter = Character.toUpperCase(randomCharacter);
             }
             buffer[i] = randomCharacter;
@@ -1,10 +1,39 @@
 package net.datafaker;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import net.datafaker.service.PoissonSampler;
+import net.datafaker.service.RandomService;
+import net.datafaker.service.Ziggurat;
+import net.datafaker.service.ZipfSampler;
 
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * Random numbers in bounded ranges. Integers are drawn with Lemire's multiply-and-shift method: the high bits of
+ * the product of a random value and the size of the range, with rare rejections so that every value has the same
+ * probability. Nothing is allocated, and the bulk methods fill arrays or primitive streams.
+ * <p>
+ * Skewed values come from the distributions: {@link #normal(double, double)}, {@link #logNormal(double, double)},
+ * {@link #exponential(double)} and {@link #pareto(double, double)} are drawn with the ziggurat method.
+ * {@link #poisson(double)} and {@link #zipf(long, double)} only keep the sampler of their last parameters: they
+ * take a constant time and allocate nothing when called again with the same parameters, but set up a new sampler
+ * whenever the parameters change. To draw values of several distributions in turn, e.g. for the columns of a
+ * table, keep one {@link #poissonSampler(double)} or {@link #zipfSampler(long, double)} for each.
+ */
 public class Number {
+    private static final long TWO_POW_32 = 1L << 32;
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L, 1_000_000_000L,
+        10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L, 100_000_000_000_000L,
+        1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L, 1_000_000_000_000_000_000L
+    };
+
     private final Faker faker;
+    private volatile PoissonSampler poisson;
+    private volatile ZipfSampler zipf;
 
     protected Number(Faker faker) {
         this.faker = faker;
@@ -14,14 +43,14 @@ public class Number {
      * Returns a random number from 0-9 (both inclusive)
      */
     public int randomDigit() {
-        return decimalBetween(0, 10).intValue();
+        return (int) below(faker.random(), 10);
     }
 
     /**
      * Returns a random number from 1-9 (both inclusive)
      */
     public int randomDigitNotZero() {
-        return decimalBetween(1, 10).intValue();
+        return 1 + (int) below(faker.random(), 9);
     }
 
     /**
@@ -29,10 +58,12 @@ public class Number {
      * @param max the lower bound (not include max)
      * @return a random number on faker.number() between min and max
      * if min = max, return min
+     * @throws IllegalArgumentException if max is less than min
      */
     public int numberBetween(int min, int max) {
         if (min == max) return min;
-        return decimalBetween(min, max).intValue();
+        checkRange(min, max);
+        return (int) (min + below(faker.random(), (long) max - min));
     }
 
     /**
@@ -40,10 +71,89 @@ public class Number {
      * @param max the lower bound (not include max)
      * @return a random number on faker.number() between min and max
      * if min = max, return min
+     * @throws IllegalArgumentException if max is less than min
      */
     public long numberBetween(long min, long max) {
         if (min == max) return min;
-        return decimalBetween(min, max).longValue();
+        checkRange(min, max);
+        return min + belowUnsigned(faker.random(), max - min);
+    }
+
+    /**
+     * Fills the array with random numbers between min (inclusive) and max (exclusive), or min if they are equal.
+     */
+    public void ints(int[] dst, int min, int max) {
+        if (min == max) {
+            Arrays.fill(dst, min);
+            return;
+        }
+        checkRange(min, max);
+        final RandomService random = faker.random();
+        final long bound = (long) max - min;
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = (int) (min + below(random, bound));
+        }
+    }
+
+    /**
+     * Fills the array with random numbers between min (inclusive) and max (exclusive), or min if they are equal.
+     */
+    public void longs(long[] dst, long min, long max) {
+        if (min == max) {
+            Arrays.fill(dst, min);
+            return;
+        }
+        checkRange(min, max);
+        final RandomService random = faker.random();
+        final long bound = max - min;
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = min + belowUnsigned(random, bound);
+        }
+    }
+
+    /**
+     * Fills the array with random numbers between min (inclusive) and max (exclusive), or min if they are equal.
+     */
+    public void doubles(double[] dst, double min, double max) {
+        checkRange(min, max);
+        final RandomService random = faker.random();
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = between(random, min, max);
+        }
+    }
+
+    /**
+     * @return a stream of {@code count} random numbers between min (inclusive) and max (exclusive), or min if they
+     * are equal
+     */
+    public IntStream ints(long count, int min, int max) {
+        checkCount(count);
+        if (min != max) {
+            checkRange(min, max);
+        }
+        return LongStream.range(0, count).mapToInt(i -> numberBetween(min, max));
+    }
+
+    /**
+     * @return a stream of {@code count} random numbers between min (inclusive) and max (exclusive), or min if they
+     * are equal
+     */
+    public LongStream longs(long count, long min, long max) {
+        checkCount(count);
+        if (min != max) {
+            checkRange(min, max);
+        }
+        return LongStream.range(0, count).map(i -> numberBetween(min, max));
+    }
+
+    /**
+     * @return a stream of {@code count} random numbers between min (inclusive) and max (exclusive), or min if they
+     * are equal
+     */
+    public DoubleStream doubles(long count, double min, double max) {
+        checkCount(count);
+        checkRange(min, max);
+        return LongStream.range(0, count).mapToDouble(i -> between(faker.random(), min, max));
     }
 
     /**
@@ -51,21 +161,19 @@ public class Number {
      * @param strict         whether or not the generated value should have exactly <code>numberOfDigits</code>
      */
     public long randomNumber(int numberOfDigits, boolean strict) {
-        long max = (long) Math.pow(10, numberOfDigits);
-        if (strict) {
-            long min = (long) Math.pow(10, numberOfDigits - 1);
-            return faker.random().nextLong(max - min) + min;
+        if (numberOfDigits <= 0) {
+            return 0;
         }
-
-        return faker.random().nextLong(max);
+        final long max = powerOfTen(numberOfDigits);
+        final long min = strict ? powerOfTen(numberOfDigits - 1) : 0;
+        return min + belowUnsigned(faker.random(), max - min);
     }
 
     /**
      * Returns a random number
      */
     public long randomNumber() {
-        int numberOfDigits = decimalBetween(1, 10).intValue();
-        return randomNumber(numberOfDigits, false);
+        return randomNumber(randomDigitNotZero(), false);
     }
 
     public double randomDouble(int maxNumberOfDecimals, int min, int max) {
@@ -78,45 +186,234 @@ public class Number {
      * @param maxNumberOfDecimals maximum number of places
      * @param min                 minimum value
      * @param max                 maximum value
+     * @throws IllegalArgumentException if max is less than min
      */
     public double randomDouble(int maxNumberOfDecimals, long min, long max) {
-        return decimalBetween(min, max)
-                .setScale(maxNumberOfDecimals, RoundingMode.HALF_DOWN)
-                .doubleValue();
+        if (min == max) {
+            return min;
+        }
+        checkRange(min, max);
+        final double value = between(faker.random(), min, max);
+        if (maxNumberOfDecimals >= POWERS_OF_TEN.length) {
+            return value;
+        }
+        if (maxNumberOfDecimals < 0) {
+            final double scale = powerOfTen(-maxNumberOfDecimals);
+            return Math.rint(value / scale) * scale;
+        }
+        final double scale = POWERS_OF_TEN[maxNumberOfDecimals];
+        final double scaled = value * scale;
+        // beyond 2^52 a double has no fraction left to round
+        return Math.abs(scaled) < 0x1p52 ? Math.rint(scaled) / scale : value;
+    }
+
+    public String digits(int count) {
+        if (count <= 0) {
+            return "";
+        }
+        final RandomService random = faker.random();
+        final char[] digits = new char[count];
+        for (int i = 0; i < count; i++) {
+            digits[i] = (char) ('0' + below(random, 10));
+        }
+        return new String(digits);
+    }
+
+    public String digit() {
+        return digits(1);
     }
 
     /**
-     * @param min the lower bound (include min)
-     * @param max the lower bound (not include max)
-     * @return decimalBetween on faker.number() between min and max
-     * if min = max, return min
+     * @return a value of the normal distribution of mean 0 and standard deviation 1
      */
-    private BigDecimal decimalBetween(long min, long max) {
-        if (min == max) {
-            return new BigDecimal(min);
+    public double normal() {
+        return Ziggurat.normal(faker.random());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the standard deviation is negative
+     */
+    public double normal(double mean, double standardDeviation) {
+        if (!(standardDeviation >= 0)) {
+            throw new IllegalArgumentException("standardDeviation must not be negative: " + standardDeviation);
         }
+        return mean + standardDeviation * Ziggurat.normal(faker.random());
+    }
 
-        final BigDecimal trueMin = new BigDecimal("" + min);
-        final BigDecimal trueMax = new BigDecimal("" + max);
-        final BigDecimal random = BigDecimal.valueOf(faker.random().nextDouble());
+    /**
+     * A value whose logarithm has the normal distribution of mean mu and standard deviation sigma, e.g. an amount
+     * with a median of {@code e^mu}.
+     *
+     * @throws IllegalArgumentException if sigma is negative
+     */
+    public double logNormal(double mu, double sigma) {
+        if (!(sigma >= 0)) {
+            throw new IllegalArgumentException("sigma must not be negative: " + sigma);
+        }
+        return Math.exp(mu + sigma * Ziggurat.normal(faker.random()));
+    }
 
-        BigDecimal r = trueMax.subtract(trueMin);
-        r = trueMin.add(r.multiply(random));
+    /**
+     * A value of the exponential distribution, e.g. the time between events happening {@code rate} times per unit
+     * of time on average.
+     *
+     * @throws IllegalArgumentException if the rate is not positive
+     */
+    public double exponential(double rate) {
+        if (!(rate > 0)) {
+            throw new IllegalArgumentException("rate must be positive: " + rate);
+        }
+        return Ziggurat.exponential(faker.random()) / rate;
+    }
 
-        if (r.compareTo(trueMax) > -1) return decimalBetween(min, max);
-        return r;
+    /**
+     * A value of the Pareto distribution, at least {@code scale}, whose tail is heavier as the shape is smaller.
+     *
+     * @throws IllegalArgumentException if the scale or the shape is not positive
+     */
+    public double pareto(double scale, double shape) {
+        if (!(scale > 0) || !(shape > 0)) {
+            throw new IllegalArgumentException("scale and shape must be positive: " + scale + ", " + shape);
+        }
+        return scale * Math.exp(Ziggurat.exponential(faker.random()) / shape);
+    }
 
+    /**
+     * A value of the Poisson distribution, e.g. the number of events in an interval where {@code mean} are
+     * expected.
+     *
+     * @throws IllegalArgumentException if the mean is negative, infinite or NaN
+     */
+    public long poisson(double mean) {
+        PoissonSampler sampler = poisson;
+        if (sampler == null || Double.compare(sampler.mean(), mean) != 0) {
+            sampler = new PoissonSampler(mean);
+            poisson = sampler;
+        }
+        return sampler.sample(faker.random());
     }
 
-    public String digits(int count) {
-        final StringBuilder tmp = new StringBuilder();
-        for (int i = 0; i < count; i++) {
-            tmp.append(randomDigit());
+    /**
+     * A rank from 1 to {@code numberOfElements} of the Zipf distribution, rank k being {@code k^exponent} times
+     * less likely than rank 1, e.g. the index of a user or a product by popularity.
+     *
+     * @throws IllegalArgumentException if the number of elements or the exponent is not positive
+     */
+    public long zipf(long numberOfElements, double exponent) {
+        ZipfSampler sampler = zipf;
+        if (sampler == null || sampler.numberOfElements() != numberOfElements
+            || Double.compare(sampler.exponent(), exponent) != 0) {
+            sampler = new ZipfSampler(numberOfElements, exponent);
+            zipf = sampler;
         }
-        return tmp.toString();
+        return sampler.sample(faker.random());
     }
 
-    public String digit() {
-        return digits(1);
+    /**
+     * Returns a supplier of values of {@link #poisson(double)} for a mean, drawn from the random of this faker,
+     * whose sampler is only set up once.
+     *
+     * @throws IllegalArgumentException if the mean is negative, infinite or NaN
+     */
+    public LongSupplier poissonSampler(double mean) {
+        final PoissonSampler sampler = new PoissonSampler(mean);
+        return () -> sampler.sample(faker.random());
+    }
+
+    /**
+     * Returns a supplier of ranks of {@link #zipf(long, double)} for a number of elements and an exponent, drawn
+     * from the random of this faker, whose sampler is only set up once.
+     *
+     * @throws IllegalArgumentException if the number of elements or the exponent is not positive
+     */
+    public LongSupplier zipfSampler(long numberOfElements, double exponent) {
+        final ZipfSampler sampler = new ZipfSampler(numberOfElements, exponent);
+        return () -> sampler.sample(faker.random());
+    }
+
+    /**
+     * A uniform value of {@code [0, bound)}, {@code bound} in {@code [1, 2^32]}: the high 32 bits of a random 32-bit
+     * value times the bound. The low 32 bits tell whether the value is in the few ones which would make some results
+     * more likely, which are drawn again; the threshold needs a division, but only when it may matter.
+     */
+    private static long below(RandomService random, long bound) {
+        long product = (random.nextInt() & 0xFFFFFFFFL) * bound;
+        long low = product & 0xFFFFFFFFL;
+        if (low < bound) {
+            final long threshold = (TWO_POW_32 - bound) % bound;
+            while (low < threshold) {
+                product = (random.nextInt() & 0xFFFFFFFFL) * bound;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+        return product >>> 32;
+    }
+
+    /**
+     * A uniform value of {@code [0, bound)}, {@code bound} being an unsigned 64-bit number, with the same method on
+     * 64-bit values when the bound doesn't fit in 32 bits.
+     */
+    private static long belowUnsigned(RandomService random, long bound) {
+        if (bound > 0 && bound <= TWO_POW_32) {
+            return below(random, bound);
+        }
+        long value = random.nextLong();
+        long low = value * bound;
+        if (Long.compareUnsigned(low, bound) < 0) {
+            final long threshold = Long.remainderUnsigned(-bound, bound);
+            while (Long.compareUnsigned(low, threshold) < 0) {
+                value = random.nextLong();
+                low = value * bound;
+            }
+        }
+        return unsignedMultiplyHigh(value, bound);
+    }
+
+    /**
+     * The high 64 bits of the 128-bit product of unsigned numbers ({@code Math.unsignedMultiplyHigh} of Java 18).
+     */
+    private static long unsignedMultiplyHigh(long x, long y) {
+        final long x0 = x & 0xFFFFFFFFL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xFFFFFFFFL;
+        final long y1 = y >>> 32;
+        final long p01 = x0 * y1;
+        final long p10 = x1 * y0;
+        final long middle = ((x0 * y0) >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+        return x1 * y1 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+    }
+
+    /**
+     * @return a uniform double of {@code [min, max)}, or min if they are equal
+     */
+    private static double between(RandomService random, double min, double max) {
+        final double value = min + (max - min) * random.nextDouble();
+        // the product may be rounded up to max
+        return value < max || min == max ? value : Math.nextDown(max);
+    }
+
+    /**
+     * @return 10<sup>n</sup>, or {@link Long#MAX_VALUE} when it doesn't fit
+     */
+    private static long powerOfTen(int n) {
+        return n < POWERS_OF_TEN.length ? POWERS_OF_TEN[n] : Long.MAX_VALUE;
+    }
+
+    private static void checkRange(long min, long max) {
+        if (max < min) {
+            throw new IllegalArgumentException("max " + max + " is less than min " + min);
+        }
+    }
+
+    private static void checkRange(double min, double max) {
+        if (!(min <= max) || Double.isInfinite(max - min)) {
+            throw new IllegalArgumentException("Invalid range [" + min + ", " + max + ")");
+        }
+    }
+
+    private static void checkCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
     }
 }
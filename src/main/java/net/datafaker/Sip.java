@@ -57,7 +57,7 @@ public final class Sip {
      * @return an RTP UDP 5 digit port int, e.g. 40002.
      */
     public int rtpPort() {
-        return portPool.get(faker.random().nextInt(0, portPool.size()));
+        return portPool.get(faker.random().nextInt(portPool.size()));
     }
 
     /**
@@ -2,10 +2,8 @@ package net.datafaker;
 
 import net.datafaker.service.RandomService;
 
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.UUID;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,7 +40,8 @@ public class Twitter {
     }
 
     /**
-     * Used to fake a new Twitter ID without collision using both current time and uuid as seeds.
+     * Used to fake a new Twitter ID: random digits, the first one not 0. Two IDs of 15 digits or more are equal
+     * with a probability below 1 in 10^14.
      *
      * @param expectedLength the expected length of the twitter id. Should be greater or equals to 6 and
      *                       less than or equals to 25.
@@ -55,36 +54,12 @@ public class Twitter {
             logger.warning("expectedLength <= 6 may easily cause twitter id collision. And expectedLength >= 25" +
                     " can be easily out of bound.");
         }
-        int hashCodeV = UUID.randomUUID().toString().hashCode();
-        if (hashCodeV < 0) {
-            hashCodeV = -hashCodeV;
-        }
-        String id1 = String.valueOf(hashCodeV);
-
-        SimpleDateFormat sdf = new SimpleDateFormat("yyyyMMddHHmmss");
-        String newDate = sdf.format(new Date());
-        String result = "";
-        RandomService random = faker.random();
-        for (int i = 0; i < expectedLength - id1.length() - newDate.length(); i++) {
-            result = result.concat(String.valueOf(random.nextInt(10)));
-        }
-        String id2 = result + newDate;
-
-        StringBuilder sb = new StringBuilder();
-        int i = 0;
-        int j = 0;
-        while (i < id1.length() || j < id2.length()) {
-            if (i < id1.length()) {
-                sb.append(id1.charAt(i++));
-            }
-            if (j < id2.length()) {
-                sb.append(id2.charAt(j++));
-            }
+        final RandomService random = faker.random();
+        final char[] id = new char[expectedLength];
+        for (int i = 0; i < expectedLength; i++) {
+            id[i] = (char) ('0' + (i == 0 ? 1 + random.nextInt(9) : random.nextInt(10)));
         }
-        String id = sb.toString();
-        int start = random.nextInt(id.length() - expectedLength + 1);
-        id = id.substring(start, start + expectedLength);
-        return id;
+        return new String(id);
     }
 
     /**
@@ -0,0 +1,272 @@
+package net.datafaker;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generates values that don't repeat, e.g. for primary keys:
+ * <pre>
+ * String email = faker.unique().get("email", () -&gt; faker.internet().emailAddress());
+ * String city = faker.unique().fetchFromYaml("address.city");
+ * </pre>
+ * A value is generated again until it hasn't been returned before in the same scope, at most
+ * {@link #maxRetries(int)} times, after which an {@link IllegalStateException} is thrown.
+ * <p>
+ * Instead of the values, 64-bit fingerprints of their strings are kept in a {@link FingerprintSet} outside of
+ * the heap, 11 to 22 bytes per value. Two different values may have the same fingerprint, with a probability
+ * of about 1 in 3,700 among 100 million values; the second one is then generated again, so values are
+ * never repeated.
+ * <p>
+ * The fakers of the records of a data set, given by {@link Faker#at(long)} and to the functions of
+ * {@link Faker#stream(long, java.util.function.Function)}, track their values together with the faker of the
+ * data set, so values don't repeat across the records of a generation run.
+ * <p>
+ * For bounded domains, {@link #range(long, long)}, {@link #numerify(String)}, {@link #bothify(String, boolean)}
+ * and {@link #fromYaml(String)} return a {@link UniqueSequence} instead, which goes through every value of
+ * the domain exactly once in a random order and keeps nothing.
+ */
+public final class Unique {
+    public static final int DEFAULT_MAX_RETRIES = 1_000;
+    private static final String DEFAULT_SCOPE = "";
+    private static final Pattern LIST_REFERENCE = Pattern.compile("#\\{([\\w.]+)}");
+
+    private final Faker faker;
+    /**
+     * Shared by the {@link Unique} of a faker and the ones of its records, and the lock of their state.
+     */
+    private final FingerprintSet fingerprints;
+    private volatile int maxRetries = DEFAULT_MAX_RETRIES;
+
+    Unique(Faker faker) {
+        this.faker = faker;
+        this.fingerprints = new FingerprintSet();
+    }
+
+    /**
+     * Generates with a faker, but tracks the values of another {@link Unique}.
+     */
+    Unique(Faker faker, Unique shared) {
+        this.faker = faker;
+        this.fingerprints = shared.fingerprints;
+        this.maxRetries = shared.maxRetries;
+    }
+
+    /**
+     * @param maxRetries the number of values generated for a call before giving up
+     */
+    public Unique maxRetries(int maxRetries) {
+        if (maxRetries < 1) {
+            throw new IllegalArgumentException("maxRetries must be positive");
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Returns a value of the supplier that wasn't returned before by this method.
+     */
+    public <T> T get(Supplier<T> supplier) {
+        return get(DEFAULT_SCOPE, supplier);
+    }
+
+    /**
+     * Returns a value of the supplier that wasn't returned before for the scope, e.g. the name of a column.
+     * Values of different scopes may be equal.
+     */
+    public <T> T get(String scope, Supplier<T> supplier) {
+        final long seed = fingerprint(0, scope);
+        final int attempts = maxRetries;
+        for (int i = 0; i < attempts; i++) {
+            final T value = supplier.get();
+            if (add(fingerprint(seed, String.valueOf(value)))) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Unable to generate a unique value for scope '" + scope + "' after "
+                + attempts + " attempts, " + size() + " values are in use");
+    }
+
+    /**
+     * Returns a value of the key, e.g. {@code address.city}, that wasn't returned before for this key.
+     */
+    public String fetchFromYaml(String key) {
+        return get(key, () -> faker.resolve(key));
+    }
+
+    /**
+     * Returns the numbers of {@code [min, max)} in a random order, without keeping the numbers returned,
+     * see {@link UniqueSequence}.
+     */
+    public UniqueSequence<Integer> range(int min, int max) {
+        if (max <= min) {
+            throw new IllegalArgumentException("Empty range [" + min + ", " + max + ")");
+        }
+        return new UniqueSequence<>((long) max - min, faker.random().nextLong(), i -> (int) (min + i));
+    }
+
+    /**
+     * Returns the numbers of {@code [min, max)} in a random order, without keeping the numbers returned,
+     * see {@link UniqueSequence}.
+     */
+    public UniqueSequence<Long> range(long min, long max) {
+        if (max <= min) {
+            throw new IllegalArgumentException("Empty range [" + min + ", " + max + ")");
+        }
+        final long size;
+        try {
+            size = Math.subtractExact(max, min);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Range [" + min + ", " + max + ") is too large", e);
+        }
+        return new UniqueSequence<>(size, faker.random().nextLong(), i -> min + i);
+    }
+
+    /**
+     * Returns every string of the pattern of {@link Faker#numerify(String)}, e.g. all the 10,000 values of
+     * {@code "###-#"}, in a random order.
+     */
+    public UniqueSequence<String> numerify(String pattern) {
+        return pattern(pattern, false, false);
+    }
+
+    /**
+     * Returns every string of the pattern of {@link Faker#bothify(String, boolean)}, e.g. all the 67,600 values
+     * of {@code "??-##"}, in a random order.
+     */
+    public UniqueSequence<String> bothify(String pattern, boolean isUpper) {
+        return pattern(pattern, true, isUpper);
+    }
+
+    private UniqueSequence<String> pattern(String pattern, boolean letters, boolean isUpper) {
+        final char[] template = pattern.toCharArray();
+        long size = 1;
+        for (char c : template) {
+            if (c == '#' || letters && c == '?') {
+                try {
+                    size = Math.multiplyExact(size, c == '#' ? 10 : 26);
+                } catch (ArithmeticException e) {
+                    throw new IllegalArgumentException("Pattern has too many values: " + pattern, e);
+                }
+            }
+        }
+        final char letterBase = isUpper ? 'A' : 'a';
+        return new UniqueSequence<>(size, faker.random().nextLong(), index -> {
+            final char[] chars = template.clone();
+            long rest = index;
+            for (int i = chars.length - 1; i >= 0; i--) {
+                if (chars[i] == '#') {
+                    chars[i] = (char) ('0' + rest % 10);
+                    rest /= 10;
+                } else if (letters && chars[i] == '?') {
+                    chars[i] = (char) (letterBase + rest % 26);
+                    rest /= 26;
+                }
+            }
+            return new String(chars);
+        });
+    }
+
+    /**
+     * Returns every value of a YAML list, e.g. {@code name.first_name}, in a random order. Entries which only
+     * refer to another list, like {@code "#{male_first_name}"}, are replaced by the values of that list, and
+     * values are only returned once even if they are in several lists.
+     *
+     * @throws IllegalArgumentException if the key is not a list, or an entry is an expression other than a
+     *                                  reference to a list
+     */
+    public UniqueSequence<String> fromYaml(String key) {
+        final Set<String> values = new LinkedHashSet<>();
+        collectYamlValues(key, values, new HashSet<>());
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No values for " + key);
+        }
+        final List<String> list = new ArrayList<>(values);
+        return new UniqueSequence<>(list.size(), faker.random().nextLong(), i -> list.get((int) i));
+    }
+
+    private void collectYamlValues(String key, Set<String> values, Set<String> visited) {
+        if (!visited.add(key)) {
+            return;
+        }
+        final Object object = faker.fakeValuesService().fetchObject(key);
+        if (!(object instanceof List)) {
+            throw new IllegalArgumentException(key + " is not a list");
+        }
+        final String namespace = key.substring(0, key.lastIndexOf('.') + 1);
+        for (Object entry : (List<?>) object) {
+            final String value = String.valueOf(entry);
+            final Matcher reference = LIST_REFERENCE.matcher(value);
+            if (reference.matches()) {
+                collectYamlValues(referencedKey(namespace, reference.group(1)), values, visited);
+            } else if (value.contains("#{")) {
+                throw new IllegalArgumentException("Entry " + value + " of " + key + " is an expression");
+            } else {
+                values.add(value);
+            }
+        }
+    }
+
+    /**
+     * {@code male_first_name} in {@code name.} is {@code name.male_first_name}, {@code PhoneNumber.formats} is
+     * {@code phone_number.formats}.
+     */
+    private static String referencedKey(String namespace, String directive) {
+        final int dot = directive.indexOf('.');
+        if (dot < 0) {
+            return namespace + directive;
+        }
+        final String provider = directive.substring(0, dot);
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < provider.length(); i++) {
+            final char c = provider.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                sb.append('_');
+            }
+            sb.append(Character.toLowerCase(c));
+        }
+        return sb.append(directive.substring(dot)).toString();
+    }
+
+    /**
+     * @return the number of values returned, of all scopes
+     */
+    public long size() {
+        synchronized (fingerprints) {
+            return fingerprints.size();
+        }
+    }
+
+    /**
+     * Forgets the values returned, so they may be returned again.
+     */
+    public void clear() {
+        synchronized (fingerprints) {
+            fingerprints.clear();
+        }
+    }
+
+    private boolean add(long fingerprint) {
+        synchronized (fingerprints) {
+            return fingerprints.add(fingerprint);
+        }
+    }
+
+    /**
+     * FNV-1a over the characters, finished with the MurmurHash3 mixer so that the low bits are well distributed.
+     */
+    static long fingerprint(long seed, String value) {
+        long h = 0xCBF29CE484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
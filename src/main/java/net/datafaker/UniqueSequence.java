@@ -0,0 +1,72 @@
+package net.datafaker;
+
+import net.datafaker.service.Permutation;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * All the values of a bounded domain, e.g. a range of numbers or a YAML list, in a random order without
+ * repetition. Value {@code i} of the sequence is the value of the domain at the index given by a keyed
+ * {@link Permutation}, so no set of returned values is kept, whatever the size of the domain.
+ * <p>
+ * Any value of the sequence can be computed with {@link #get(long)}. Workers using fakers with the same seed
+ * create the same sequence, so they can take disjoint ranges of positions and still generate distinct values,
+ * e.g. surrogate keys, without coordination. The iterator methods are thread safe.
+ */
+public final class UniqueSequence<T> implements Iterator<T> {
+    private final Permutation permutation;
+    private final LongFunction<T> values;
+    private final AtomicLong position = new AtomicLong();
+
+    /**
+     * @param values the value of each index of the domain {@code [0, size)}
+     */
+    UniqueSequence(long size, long seed, LongFunction<T> values) {
+        this.permutation = new Permutation(size, seed);
+        this.values = values;
+    }
+
+    /**
+     * @return the number of values of the domain
+     */
+    public long size() {
+        return permutation.size();
+    }
+
+    /**
+     * @return the value at a position of the sequence, in {@code [0, size)}
+     */
+    public T get(long position) {
+        return values.apply(permutation.apply(position));
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position.get() < size();
+    }
+
+    /**
+     * @throws NoSuchElementException once all the values of the domain have been returned
+     */
+    @Override
+    public T next() {
+        final long next = position.getAndIncrement();
+        if (next >= size()) {
+            position.set(size());
+            throw new NoSuchElementException("All " + size() + " values have been returned");
+        }
+        return get(next);
+    }
+
+    /**
+     * @return all the values of the sequence, from the start
+     */
+    public Stream<T> stream() {
+        return LongStream.range(0, size()).mapToObj(this::get);
+    }
+}
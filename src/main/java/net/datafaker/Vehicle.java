@@ -1,5 +1,6 @@
 package net.datafaker;
 
+import net.datafaker.checksum.Vin;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -8,13 +9,32 @@ public class Vehicle {
     private final Faker faker;
 
     static final String VIN_REGEX = "[A-Z0-9]{3}[A-Z0-9]{5}[A-Z0-9]{1}[A-Z0-9]{1}[A-Z0]{1}[A-Z0-9]{1}\\d{5}";
+    // the characters allowed at each position of a VIN, in the shape of VIN_REGEX; the check digit is computed
+    private static final char[] VIN_CHARS = "0123456789ABCDEFGHJKLMNPRSTUVWXYZ".toCharArray();
+    private static final char[] VIN_LETTERS_AND_ZERO = "0ABCDEFGHJKLMNPRSTUVWXYZ".toCharArray();
+    private static final char[][] VIN_POSITIONS = {
+        VIN_CHARS, VIN_CHARS, VIN_CHARS, VIN_CHARS, VIN_CHARS, VIN_CHARS, VIN_CHARS, VIN_CHARS, null,
+        VIN_CHARS, VIN_LETTERS_AND_ZERO, VIN_CHARS
+    };
 
     public Vehicle(Faker faker) {
         this.faker = faker;
     }
 
+    /**
+     * @return a VIN with a valid check digit, without the letters I, O and Q
+     */
     public String vin() {
-        return faker.fakeValuesService().regexify(VIN_REGEX);
+        final char[] vin = new char[Vin.LENGTH];
+        for (int i = 0; i < vin.length; i++) {
+            if (i >= VIN_POSITIONS.length) {
+                vin[i] = (char) ('0' + faker.random().nextInt(10));
+            } else if (VIN_POSITIONS[i] != null) {
+                vin[i] = VIN_POSITIONS[i][faker.random().nextInt(VIN_POSITIONS[i].length)];
+            }
+        }
+        vin[Vin.CHECK_POSITION] = Vin.checkChar(vin, 0);
+        return new String(vin);
     }
 
     public String manufacturer() {
@@ -0,0 +1,51 @@
+package net.datafaker.checksum;
+
+/**
+ * The Damm check digit, based on a totally anti-symmetric quasigroup of order 10, which detects all single digit
+ * errors and all transpositions of adjacent digits with a single table.
+ * <p>
+ * Characters other than digits are skipped.
+ */
+public final class Damm {
+    private static final byte[][] QUASIGROUP = {
+        {0, 3, 1, 7, 5, 9, 8, 6, 4, 2},
+        {7, 0, 9, 2, 1, 5, 4, 8, 6, 3},
+        {4, 2, 0, 6, 8, 7, 1, 3, 5, 9},
+        {1, 7, 5, 0, 9, 8, 3, 4, 2, 6},
+        {6, 1, 2, 3, 0, 4, 5, 9, 7, 8},
+        {3, 6, 7, 4, 2, 0, 9, 5, 8, 1},
+        {5, 8, 6, 9, 7, 2, 0, 1, 3, 4},
+        {8, 9, 4, 5, 3, 6, 2, 0, 1, 7},
+        {9, 4, 3, 8, 6, 1, 7, 2, 0, 5},
+        {2, 5, 8, 1, 4, 3, 6, 7, 9, 0}
+    };
+
+    private Damm() {
+    }
+
+    /**
+     * @return the check digit to append to the digits in {@code chars[from, to)}
+     */
+    public static int checkDigit(char[] chars, int from, int to) {
+        int interim = 0;
+        for (int i = from; i < to; i++) {
+            final int digit = Digits.value(chars[i]);
+            if (digit >= 0) {
+                interim = QUASIGROUP[interim][digit];
+            }
+        }
+        return interim;
+    }
+
+    /**
+     * @return whether the last digit in {@code chars[from, to)} is the check digit of the digits before it
+     */
+    public static boolean isValid(char[] chars, int from, int to) {
+        return Digits.count(chars, from, to) > 1 && checkDigit(chars, from, to) == 0;
+    }
+
+    public static boolean isValid(CharSequence value) {
+        final char[] chars = Digits.chars(value);
+        return isValid(chars, 0, chars.length);
+    }
+}
@@ -0,0 +1,39 @@
+package net.datafaker.checksum;
+
+/**
+ * Helpers shared by the check digit algorithms.
+ */
+final class Digits {
+
+    private Digits() {
+    }
+
+    /**
+     * @return the value of a decimal digit, or -1 for other characters
+     */
+    static int value(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    static int count(char[] chars, int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (value(chars[i]) >= 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static char[] chars(CharSequence value) {
+        final char[] chars = new char[value.length()];
+        if (value instanceof String) {
+            ((String) value).getChars(0, chars.length, chars, 0);
+        } else {
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = value.charAt(i);
+            }
+        }
+        return chars;
+    }
+}
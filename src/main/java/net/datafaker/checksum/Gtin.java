@@ -0,0 +1,61 @@
+package net.datafaker.checksum;
+
+/**
+ * The mod 10 check digit of GS1 numbers: GTIN-8, GTIN-12 (UPC-A), GTIN-13 (EAN-13, ISBN-13) and GTIN-14. From
+ * the right, the digits before the check digit are weighted 3, 1, 3, ... and the check digit makes the sum a
+ * multiple of 10, so the algorithm is the same for all lengths.
+ * <p>
+ * Characters other than digits, e.g. dashes, are skipped.
+ */
+public final class Gtin {
+
+    private Gtin() {
+    }
+
+    /**
+     * @return the check digit to append to the digits in {@code chars[from, to)}
+     */
+    public static int checkDigit(char[] chars, int from, int to) {
+        return (10 - sum(chars, from, to, 3) % 10) % 10;
+    }
+
+    /**
+     * @param payload the number without its check digit, not negative
+     * @return the check digit to append to the decimal digits of the number
+     */
+    public static int checkDigit(long payload) {
+        if (payload < 0) {
+            throw new IllegalArgumentException("Negative payload: " + payload);
+        }
+        int sum = 0;
+        for (int weight = 3; payload > 0; payload /= 10, weight = 4 - weight) {
+            sum += (int) (payload % 10) * weight;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    /**
+     * @return whether the last digit in {@code chars[from, to)} is the check digit of the digits before it
+     */
+    public static boolean isValid(char[] chars, int from, int to) {
+        return Digits.count(chars, from, to) > 1 && sum(chars, from, to, 1) % 10 == 0;
+    }
+
+    public static boolean isValid(CharSequence value) {
+        final char[] chars = Digits.chars(value);
+        return isValid(chars, 0, chars.length);
+    }
+
+    private static int sum(char[] chars, int from, int to, int lastWeight) {
+        int sum = 0;
+        int weight = lastWeight;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = Digits.value(chars[i]);
+            if (digit >= 0) {
+                sum += digit * weight;
+                weight = 4 - weight;
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,79 @@
+package net.datafaker.checksum;
+
+/**
+ * The ISO 7064 mod 97-10 check digits of IBANs. The basic bank account number followed by the country code and
+ * {@code 00}, with letters replaced by the numbers 10 to 35, is a number of up to 70 digits; its remainder
+ * modulo 97 is computed one character at a time, so it fits in an {@code int}. The remainder of an IBAN
+ * moved the same way, i.e. with its first 4 characters at the end, is 1.
+ */
+public final class Iban {
+
+    private Iban() {
+    }
+
+    /**
+     * Continues the remainder modulo 97 of a number with the characters in {@code chars[from, to)}, so that a
+     * number split in several parts can be processed without concatenating them. Letters, lower or upper case,
+     * count as 2 digits from 10 to 35.
+     *
+     * @param remainder the remainder of the characters before, 0 at the start
+     * @throws IllegalArgumentException if a character is neither a digit nor a letter
+     */
+    public static int mod97(int remainder, char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            remainder = mod97(remainder, chars[i]);
+        }
+        return remainder;
+    }
+
+    /**
+     * @see #mod97(int, char[], int, int)
+     */
+    public static int mod97(int remainder, CharSequence chars) {
+        return mod97(remainder, chars, 0, chars.length());
+    }
+
+    /**
+     * @return the 2 check digits, from 2 to 98, between the country code and the basic bank account number
+     */
+    public static int checkDigits(CharSequence countryCode, CharSequence basicBankAccountNumber) {
+        final int remainder = mod97(mod97(0, basicBankAccountNumber), countryCode);
+        return 98 - remainder * 100 % 97;
+    }
+
+    /**
+     * @return whether the IBAN, without spaces, has valid check digits
+     */
+    public static boolean isValid(CharSequence iban) {
+        if (iban.length() < 5) {
+            return false;
+        }
+        try {
+            return mod97(mod97(0, iban, 4, iban.length()), iban, 0, 4) == 1;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static int mod97(int remainder, CharSequence chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            remainder = mod97(remainder, chars.charAt(i));
+        }
+        return remainder;
+    }
+
+    private static int mod97(int remainder, char c) {
+        if (c >= '0' && c <= '9') {
+            return (remainder * 10 + c - '0') % 97;
+        }
+        final int letter;
+        if (c >= 'A' && c <= 'Z') {
+            letter = c - 'A' + 10;
+        } else if (c >= 'a' && c <= 'z') {
+            letter = c - 'a' + 10;
+        } else {
+            throw new IllegalArgumentException("Invalid character in IBAN: " + c);
+        }
+        return (remainder * 100 + letter) % 97;
+    }
+}
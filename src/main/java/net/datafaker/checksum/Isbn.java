@@ -0,0 +1,72 @@
+package net.datafaker.checksum;
+
+/**
+ * The check digits of ISBNs. The ISBN-10 check digit is a mod 11 check digit, written {@code X} for 10: from the
+ * right, the 9 digits before it are weighted 2 to 10 and the check digit makes the sum a multiple of 11. The
+ * ISBN-13 check digit is the {@link Gtin} check digit.
+ * <p>
+ * Characters other than digits, e.g. dashes, are skipped.
+ */
+public final class Isbn {
+
+    private Isbn() {
+    }
+
+    /**
+     * @return the ISBN-10 check digit of the 9 digits in {@code chars[from, to)}, from 0 to 10
+     */
+    public static int checkDigit10(char[] chars, int from, int to) {
+        int sum = 0;
+        int weight = 2;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = Digits.value(chars[i]);
+            if (digit >= 0) {
+                sum += digit * weight++;
+            }
+        }
+        return (11 - sum % 11) % 11;
+    }
+
+    /**
+     * @return the ISBN-10 check character of the 9 digits in {@code chars[from, to)}, {@code X} for 10
+     */
+    public static char checkChar10(char[] chars, int from, int to) {
+        final int checkDigit = checkDigit10(chars, from, to);
+        return checkDigit == 10 ? 'X' : (char) ('0' + checkDigit);
+    }
+
+    /**
+     * @return whether {@code chars[from, to)} has 9 digits followed by their ISBN-10 check character
+     */
+    public static boolean isValid10(char[] chars, int from, int to) {
+        int last = to - 1;
+        while (last >= from && Digits.value(chars[last]) < 0 && chars[last] != 'X') {
+            last--;
+        }
+        return last >= from && Digits.count(chars, from, last) == 9 && checkChar10(chars, from, last) == chars[last];
+    }
+
+    public static boolean isValid10(CharSequence value) {
+        final char[] chars = Digits.chars(value);
+        return isValid10(chars, 0, chars.length);
+    }
+
+    /**
+     * @return the ISBN-13 check digit of the 12 digits in {@code chars[from, to)}
+     */
+    public static int checkDigit13(char[] chars, int from, int to) {
+        return Gtin.checkDigit(chars, from, to);
+    }
+
+    /**
+     * @return whether {@code chars[from, to)} has 12 digits followed by their ISBN-13 check digit
+     */
+    public static boolean isValid13(char[] chars, int from, int to) {
+        return Digits.count(chars, from, to) == 13 && Gtin.isValid(chars, from, to);
+    }
+
+    public static boolean isValid13(CharSequence value) {
+        final char[] chars = Digits.chars(value);
+        return isValid13(chars, 0, chars.length);
+    }
+}
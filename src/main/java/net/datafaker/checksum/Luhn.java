@@ -0,0 +1,48 @@
+package net.datafaker.checksum;
+
+/**
+ * The Luhn (mod 10) algorithm of credit card numbers, IMEIs and many national id numbers: from the right, every
+ * other digit starting with the last digit before the check digit is doubled, and the check digit makes the
+ * sum of the digits a multiple of 10.
+ * <p>
+ * Characters other than digits, e.g. spaces and dashes, are skipped.
+ */
+public final class Luhn {
+    private static final int[] DOUBLED = {0, 2, 4, 6, 8, 1, 3, 5, 7, 9};
+
+    private Luhn() {
+    }
+
+    /**
+     * @return the check digit to append to the digits in {@code chars[from, to)}
+     */
+    public static int checkDigit(char[] chars, int from, int to) {
+        return (10 - sum(chars, from, to, true) % 10) % 10;
+    }
+
+    /**
+     * @return whether the last digit in {@code chars[from, to)} is the check digit of the digits before it
+     */
+    public static boolean isValid(char[] chars, int from, int to) {
+        return Digits.count(chars, from, to) > 1 && sum(chars, from, to, false) % 10 == 0;
+    }
+
+    public static boolean isValid(CharSequence value) {
+        final char[] chars = Digits.chars(value);
+        return isValid(chars, 0, chars.length);
+    }
+
+    private static int sum(char[] chars, int from, int to, boolean doubleLast) {
+        int sum = 0;
+        boolean doubled = doubleLast;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = Digits.value(chars[i]);
+            if (digit < 0) {
+                continue;
+            }
+            sum += doubled ? DOUBLED[digit] : digit;
+            doubled = !doubled;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,91 @@
+package net.datafaker.checksum;
+
+/**
+ * The weighted mod 11 check digits of the Brazilian CPF and CNPJ, the Portuguese NIF and other tax numbers:
+ * from the right, the digits are weighted 2, 3, ... up to a maximum weight after which the weights start again
+ * at 2. A remainder {@code r} of the sum modulo 11 gives the check digit {@code 11 - r}, or 0 when {@code r} is
+ * 0 or 1.
+ * <p>
+ * Characters other than digits, e.g. dots and dashes, are skipped.
+ */
+public final class Mod11 {
+    /**
+     * The maximum weight for the weights to increase from the right without starting again, e.g. for the CPF.
+     */
+    public static final int NO_CYCLE = Integer.MAX_VALUE;
+    public static final int CNPJ_MAX_WEIGHT = 9;
+
+    private Mod11() {
+    }
+
+    /**
+     * @return the check digit to append to the digits in {@code chars[from, to)}
+     */
+    public static int checkDigit(char[] chars, int from, int to, int maxWeight) {
+        int sum = 0;
+        int weight = 2;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = Digits.value(chars[i]);
+            if (digit >= 0) {
+                sum += digit * weight;
+                weight = weight == maxWeight ? 2 : weight + 1;
+            }
+        }
+        final int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    /**
+     * Writes the 2 check digits of a CPF after its first 9 digits, at {@code from + 9} and {@code from + 10}.
+     */
+    public static void putCpfCheckDigits(char[] chars, int from) {
+        putCheckDigits(chars, from, 9, NO_CYCLE);
+    }
+
+    /**
+     * Writes the 2 check digits of a CNPJ after its first 12 digits, at {@code from + 12} and {@code from + 13}.
+     */
+    public static void putCnpjCheckDigits(char[] chars, int from) {
+        putCheckDigits(chars, from, 12, CNPJ_MAX_WEIGHT);
+    }
+
+    /**
+     * @return whether the digits of the CPF, ignoring separators, are 9 digits followed by their check digits
+     */
+    public static boolean isValidCpf(CharSequence cpf) {
+        return isValid(cpf, 9, NO_CYCLE);
+    }
+
+    /**
+     * @return whether the digits of the CNPJ, ignoring separators, are 12 digits followed by their check digits
+     */
+    public static boolean isValidCnpj(CharSequence cnpj) {
+        return isValid(cnpj, 12, CNPJ_MAX_WEIGHT);
+    }
+
+    private static void putCheckDigits(char[] chars, int from, int length, int maxWeight) {
+        chars[from + length] = (char) ('0' + checkDigit(chars, from, from + length, maxWeight));
+        chars[from + length + 1] = (char) ('0' + checkDigit(chars, from, from + length + 1, maxWeight));
+    }
+
+    private static boolean isValid(CharSequence value, int length, int maxWeight) {
+        final char[] digits = new char[length + 2];
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (Digits.value(c) >= 0) {
+                if (count == digits.length) {
+                    return false;
+                }
+                digits[count++] = c;
+            }
+        }
+        if (count != digits.length) {
+            return false;
+        }
+        final char first = digits[length];
+        final char second = digits[length + 1];
+        putCheckDigits(digits, 0, length, maxWeight);
+        return digits[length] == first && digits[length + 1] == second;
+    }
+}
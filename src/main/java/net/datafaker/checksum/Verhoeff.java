@@ -0,0 +1,69 @@
+package net.datafaker.checksum;
+
+/**
+ * The Verhoeff check digit, based on the dihedral group D5, which detects all single digit errors and all
+ * transpositions of adjacent digits, e.g. in the Indian Aadhaar number.
+ * <p>
+ * Characters other than digits are skipped.
+ */
+public final class Verhoeff {
+    private static final byte[][] MULTIPLICATION = {
+        {0, 1, 2, 3, 4, 5, 6, 7, 8, 9},
+        {1, 2, 3, 4, 0, 6, 7, 8, 9, 5},
+        {2, 3, 4, 0, 1, 7, 8, 9, 5, 6},
+        {3, 4, 0, 1, 2, 8, 9, 5, 6, 7},
+        {4, 0, 1, 2, 3, 9, 5, 6, 7, 8},
+        {5, 9, 8, 7, 6, 0, 4, 3, 2, 1},
+        {6, 5, 9, 8, 7, 1, 0, 4, 3, 2},
+        {7, 6, 5, 9, 8, 2, 1, 0, 4, 3},
+        {8, 7, 6, 5, 9, 3, 2, 1, 0, 4},
+        {9, 8, 7, 6, 5, 4, 3, 2, 1, 0}
+    };
+    private static final byte[][] PERMUTATION = {
+        {0, 1, 2, 3, 4, 5, 6, 7, 8, 9},
+        {1, 5, 7, 6, 2, 8, 3, 0, 9, 4},
+        {5, 8, 0, 3, 7, 9, 6, 1, 4, 2},
+        {8, 9, 1, 6, 0, 4, 3, 5, 2, 7},
+        {9, 4, 5, 3, 1, 2, 6, 8, 7, 0},
+        {4, 2, 8, 6, 5, 7, 3, 9, 0, 1},
+        {2, 7, 9, 3, 8, 0, 6, 4, 1, 5},
+        {7, 0, 4, 6, 9, 1, 3, 2, 5, 8}
+    };
+    private static final byte[] INVERSE = {0, 4, 3, 2, 1, 5, 6, 7, 8, 9};
+
+    private Verhoeff() {
+    }
+
+    /**
+     * @return the check digit to append to the digits in {@code chars[from, to)}
+     */
+    public static int checkDigit(char[] chars, int from, int to) {
+        return INVERSE[check(chars, from, to, 1)];
+    }
+
+    /**
+     * @return whether the last digit in {@code chars[from, to)} is the check digit of the digits before it
+     */
+    public static boolean isValid(char[] chars, int from, int to) {
+        return Digits.count(chars, from, to) > 1 && check(chars, from, to, 0) == 0;
+    }
+
+    public static boolean isValid(CharSequence value) {
+        final char[] chars = Digits.chars(value);
+        return isValid(chars, 0, chars.length);
+    }
+
+    /**
+     * @param position the position of the last digit from the right, 1 if the check digit is not there yet
+     */
+    private static int check(char[] chars, int from, int to, int position) {
+        int check = 0;
+        for (int i = to - 1; i >= from; i--) {
+            final int digit = Digits.value(chars[i]);
+            if (digit >= 0) {
+                check = MULTIPLICATION[check][PERMUTATION[position++ % 8][digit]];
+            }
+        }
+        return check;
+    }
+}
@@ -0,0 +1,58 @@
+package net.datafaker.checksum;
+
+/**
+ * The check digit of vehicle identification numbers (ISO 3779, as used in North America): the 17 characters are
+ * transliterated to numbers, the letters {@code I}, {@code O} and {@code Q} being not allowed, and weighted by
+ * their position; the remainder of the sum modulo 11 is the 9th character, {@code X} for 10.
+ */
+public final class Vin {
+    public static final int LENGTH = 17;
+    public static final int CHECK_POSITION = 8;
+
+    private static final int[] WEIGHTS = {8, 7, 6, 5, 4, 3, 2, 10, 0, 9, 8, 7, 6, 5, 4, 3, 2};
+    // A to Z, 0 for I, O and Q
+    private static final int[] LETTER_VALUES = {
+        1, 2, 3, 4, 5, 6, 7, 8, 0, 1, 2, 3, 4, 5, 0, 7, 0, 9, 2, 3, 4, 5, 6, 7, 8, 9
+    };
+
+    private Vin() {
+    }
+
+    /**
+     * @param chars a VIN starting at {@code from}, whose check character is ignored
+     * @return the check character of the VIN, {@code 0} to {@code 9} or {@code X}
+     * @throws IllegalArgumentException if a character is not allowed in a VIN
+     */
+    public static char checkChar(char[] chars, int from) {
+        int sum = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            if (i != CHECK_POSITION) {
+                sum += value(chars[from + i]) * WEIGHTS[i];
+            }
+        }
+        final int remainder = sum % 11;
+        return remainder == 10 ? 'X' : (char) ('0' + remainder);
+    }
+
+    public static boolean isValid(CharSequence vin) {
+        if (vin.length() != LENGTH) {
+            return false;
+        }
+        final char[] chars = Digits.chars(vin);
+        try {
+            return checkChar(chars, 0) == chars[CHECK_POSITION];
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static int value(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z' && LETTER_VALUES[c - 'A'] > 0) {
+            return LETTER_VALUES[c - 'A'];
+        }
+        throw new IllegalArgumentException("Invalid character in VIN: " + c);
+    }
+}
@@ -1,28 +1,27 @@
 package net.datafaker.idnumbers;
 
 import net.datafaker.Faker;
+import net.datafaker.service.RandomService;
 
 public class EnIdNumber {
-    private static final String[] invalidSSNPatterns = {
-            "0{3}-\\\\d{2}-\\\\d{4}",
-            "\\d{3}-0{2}-\\d{4}",
-            "\\d{3}-\\d{2}-0{4}",
-            "666-\\d{2}-\\d{4}",
-            "9\\d{2}-\\d{2}-\\d{4}"};
 
+    /**
+     * A social security number {@code AAA-GG-SSSS}: the area number is not 000, 666 nor 900 to 999, the group
+     * number is not 00 and the serial number is not 0000.
+     */
     public String getValidSsn(Faker f) {
-        String ssn = f.regexify("[0-8]\\d{2}-\\d{2}-\\d{4}");
-
-        boolean isValid = true;
-        for (String invalidSSNPattern : invalidSSNPatterns) {
-            if (ssn.matches(invalidSSNPattern)) {
-                isValid = false;
-                break;
-            }
-        }
-        if (!isValid) {
-            ssn = getValidSsn(f);
+        final RandomService random = f.random();
+        // 1 to 899 without 666
+        int area = 1 + random.nextInt(898);
+        if (area >= 666) {
+            area++;
         }
-        return ssn;
+        final char[] ssn = new char[11];
+        IdNumberSupport.putDigits(ssn, 0, area, 3);
+        ssn[3] = '-';
+        IdNumberSupport.putDigits(ssn, 4, 1 + random.nextInt(99), 2);
+        ssn[6] = '-';
+        IdNumberSupport.putDigits(ssn, 7, 1 + random.nextInt(9999), 4);
+        return new String(ssn);
     }
 }
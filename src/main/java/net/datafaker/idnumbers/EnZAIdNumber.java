@@ -1,10 +1,10 @@
 package net.datafaker.idnumbers;
 
 import net.datafaker.Faker;
+import net.datafaker.checksum.Luhn;
+import net.datafaker.service.RandomService;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
 
 /**
  * Implementation based on the definition at
@@ -13,7 +13,9 @@ import java.util.Date;
 
 public class EnZAIdNumber {
 
-    private static final String[] validPattern = {"##########08#", "##########18#"};
+    private static final int FIRST_YEAR = 1900;
+    private static final int LAST_YEAR = 2020;
+    private static final int CHECK_DIGIT = 12;
 
     /**
      * Generate a valid social security number on faker
@@ -22,40 +24,34 @@ public class EnZAIdNumber {
      * @return a valid social security number on faker
      */
     public String getValidSsn(Faker f) {
-
-        String ssn = "";
-        while (!validSsn(ssn)) {
-            String pattern = getPattern(f);
-            ssn = f.numerify(pattern);
-        }
-        return ssn;
-
+        return new String(validSsn(f.random()));
     }
 
     /**
-     * Generate a invalid social security number on faker
+     * Generate a invalid social security number on faker: a valid number with a wrong check digit
      *
      * @param f the java-faker
      * @return a invalid social security number on faker
      */
     public String getInValidSsn(Faker f) {
-
-        String ssn = f.numerify(validPattern[f.random().nextInt(2)]);
-        while (validSsn(ssn)) {
-            String pattern = getPattern(f);
-            ssn = f.numerify(pattern);
-        }
-        return ssn;
+        final char[] ssn = validSsn(f.random());
+        ssn[CHECK_DIGIT] = IdNumberSupport.otherDigit(f.random(), ssn[CHECK_DIGIT]);
+        return new String(ssn);
     }
 
     /**
-     * Generate a fixed format numeric string
-     *
-     * @param faker the java-faker
-     * @return a fixed format numeric string
+     * A date of birth {@code yyMMdd}, 4 sequence digits, the citizenship {@code 0} or {@code 1}, {@code 8} and
+     * the Luhn check digit.
      */
-    private String getPattern(Faker faker) {
-        return validPattern[faker.random().nextInt(2)];
+    private char[] validSsn(RandomService random) {
+        final char[] ssn = new char[13];
+        final LocalDate birthday = IdNumberSupport.randomDate(random, FIRST_YEAR, LAST_YEAR);
+        final int sequence = IdNumberSupport.putDate(ssn, 0, birthday, 2);
+        IdNumberSupport.putRandomDigits(random, ssn, sequence, sequence + 4);
+        ssn[10] = (char) ('0' + random.nextInt(2));
+        ssn[11] = '8';
+        ssn[CHECK_DIGIT] = (char) ('0' + Luhn.checkDigit(ssn, 0, CHECK_DIGIT));
+        return ssn;
     }
 
     /**
@@ -67,80 +63,11 @@ public class EnZAIdNumber {
         if (ssn.length() != 13) {
             return false;
         }
-
-        try {
-            if (parseDate(ssn)) {
-                return false;
-            }
-        } catch (ParseException e) {
+        final char[] chars = ssn.toCharArray();
+        if (!IdNumberSupport.isDigits(chars, 0, chars.length) || !IdNumberSupport.isTwoDigitYearDate(chars, 0)) {
             return false;
         }
-
-        int calculatedChecksum = calculateChecksum(ssn.substring(0, 12));
-        int checksum = Integer.parseInt(ssn.substring(12, 13));
-        return (checksum == calculatedChecksum);
-    }
-
-    /**
-     * Judge whether a numeric string of ssn can represent a legal date
-     *
-     * @param ssn social security number
-     */
-    private boolean parseDate(String ssn) throws ParseException {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyMMdd");
-        String dateString = ssn.substring(0, 6);
-        Date date = sdf.parse(dateString);
-
-        // want to check that the parsed date is equal to the supplied data, most of the attempts will fail
-        String reversed = sdf.format(date);
-        return !reversed.equals(dateString);
-    }
-
-    /**
-     * Calculate the Check Number in the last number of a ssn
-     *
-     * @param number a social security number not including the last number
-     * @return check number of this ssn
-     */
-    private int calculateChecksum(String number) {
-
-        int totalNumber = 0;
-
-        for (int i = number.length() - 1; i >= 0; i -= 2) {
-            int tmpNumber = calculate(Integer.parseInt(String.valueOf(number.charAt(i))) * 2);
-            if (i == 0) {
-                totalNumber += tmpNumber;
-            } else {
-                totalNumber += tmpNumber + Integer.parseInt(String.valueOf(number.charAt(i - 1)));
-            }
-
-        }
-        if (totalNumber >= 0 && totalNumber < 9) {
-            return (10 - totalNumber);
-        } else {
-            String str = String.valueOf(totalNumber);
-            String s = String.valueOf(str.charAt(str.length() - 1));
-            if (Integer.parseInt(s) == 0) {
-                return 0;
-            } else {
-                return (10 - Integer.parseInt(s));
-            }
-        }
-
-    }
-
-    /**
-     * Calculate the sum of each digit of the number
-     *
-     * @return sum of each digit of the number
-     */
-    private static int calculate(int number) {
-        String str = String.valueOf(number);
-        int total = 0;
-        for (int i = 0; i < str.length(); i++) {
-            total += Integer.parseInt(String.valueOf(str.charAt(i)));
-        }
-        return total;
+        return chars[CHECK_DIGIT] - '0' == Luhn.checkDigit(chars, 0, CHECK_DIGIT);
     }
 
-}
\ No newline at end of file
+}
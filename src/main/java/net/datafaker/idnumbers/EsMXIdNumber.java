@@ -2,8 +2,6 @@ package net.datafaker.idnumbers;
 
 import net.datafaker.Faker;
 
-import java.util.*;
-
 /**
  * Implementation based on the definition at
  * https://en.wikipedia.org/wiki/Unique_Population_Registry_Code
@@ -55,27 +53,16 @@ public class EsMXIdNumber {
     }
 
     /**
-     * Get A invalid MEX CURP.
+     * Get A invalid MEX CURP: a valid CURP with a wrong check digit.
      *
      * @param faker faker
      * @return A invalid MEX CURP.
      */
     public String getWrong(Faker faker) {
-        String[] cha = {
-                "HEFA560427MVZRRL04",
-                "DKEM193827HDQWEF05",
-                "KAKS142444HNSSFAW6",
-                "KSDF414424HNSDFAW6",
-                "AKDF414424MSDSFAW6",
-                "ADKF144424MNSDFCD6",
-                "MYDF144424MDNFAW37",
-                "AKKS414424MDAFDFW6",
-                "WKDF144244HSDCNFA2",
-                "AKSK414244HSDATT56",
-                "QWDF414424HNSDVAW4",
-                "AKDF144424MDEFVFA1"
-        };
-        return cha[faker.random().nextInt(12)];
+        final char[] curp = get(faker).toCharArray();
+        final int checkDigit = curp.length - 1;
+        curp[checkDigit] = IdNumberSupport.otherDigit(faker.random(), curp[checkDigit]);
+        return new String(curp);
     }
 
     /**
@@ -85,33 +72,9 @@ public class EsMXIdNumber {
      * @return A valid date.
      */
     private String getBirthday(Faker f) {
-        int year = f.random().nextInt(1900, 2021);
-        int month = f.random().nextInt(1, 12);
-        int day = validDay(year, month, f);
-        return String.valueOf(year * 10000 + month * 100 + day);
-    }
-
-
-    /**
-     * Gets a valid day according to year and month.
-     *
-     * @param year  A specific year.
-     * @param month A specific month.
-     * @param f     A specific instance of Faker.
-     * @return A valid day.
-     */
-    private int validDay(int year, int month, Faker f) {
-
-        List<Integer> bigMonths = Arrays.asList(1, 3, 5, 7, 8, 10, 12);
-
-        if (month == 2) {
-            if (year % 4 == 0) {
-                return f.random().nextInt(1, 29);
-            } else return f.random().nextInt(1, 28);
-        } else if (bigMonths.contains(month)) {
-            return f.random().nextInt(1, 31);
-        } else return f.random().nextInt(1, 30);
-
+        final char[] birthday = new char[8];
+        IdNumberSupport.putDate(birthday, 0, IdNumberSupport.randomDate(f.random(), 1900, 2021), 4);
+        return new String(birthday);
     }
 
     /**
@@ -0,0 +1,96 @@
+package net.datafaker.idnumbers;
+
+import net.datafaker.service.RandomService;
+
+import java.time.LocalDate;
+import java.time.Month;
+
+/**
+ * Builds id numbers constructively into a {@code char[]}: a date of birth drawn among the valid dates, random
+ * serial digits and the check digit computed from them, so that no candidate is ever rejected. An invalid
+ * number is a valid number with another check digit.
+ */
+final class IdNumberSupport {
+
+    private IdNumberSupport() {
+    }
+
+    /**
+     * @return a date between the first day of {@code fromYear} and the last day of {@code toYear}
+     */
+    static LocalDate randomDate(RandomService random, int fromYear, int toYear) {
+        final long from = LocalDate.of(fromYear, 1, 1).toEpochDay();
+        final long to = LocalDate.of(toYear + 1, 1, 1).toEpochDay();
+        return LocalDate.ofEpochDay(from + random.nextLong(to - from));
+    }
+
+    /**
+     * Writes the date as {@code yyMMdd}, or {@code yyyyMMdd} with 4 year digits.
+     *
+     * @return the offset after the date
+     */
+    static int putDate(char[] chars, int offset, LocalDate date, int yearDigits) {
+        final int year = yearDigits == 2 ? date.getYear() % 100 : date.getYear();
+        putDigits(chars, offset, year, yearDigits);
+        putDigits(chars, offset + yearDigits, date.getMonthValue(), 2);
+        putDigits(chars, offset + yearDigits + 2, date.getDayOfMonth(), 2);
+        return offset + yearDigits + 4;
+    }
+
+    /**
+     * Writes the last {@code width} digits of the value, padded with zeros.
+     */
+    static void putDigits(char[] chars, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    static void putRandomDigits(RandomService random, char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            chars[i] = (char) ('0' + random.nextInt(10));
+        }
+    }
+
+    /**
+     * @return whether the characters are all digits
+     */
+    static boolean isDigits(char[] chars, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (chars[i] < '0' || chars[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether 6 digits are a date {@code yyMMdd}. Years 1901 to 2099 are leap years when they are divisible
+     * by 4, so it doesn't matter in which century the year is.
+     */
+    static boolean isTwoDigitYearDate(char[] chars, int offset) {
+        if (!isDigits(chars, offset, offset + 6)) {
+            return false;
+        }
+        final int year = number(chars, offset, 2);
+        final int month = number(chars, offset + 2, 2);
+        final int day = number(chars, offset + 4, 2);
+        return month >= 1 && month <= 12 && day >= 1 && day <= Month.of(month).length(year % 4 == 0);
+    }
+
+    /**
+     * @return a random digit other than the given one, e.g. to make a check digit wrong
+     */
+    static char otherDigit(RandomService random, char digit) {
+        return (char) ('0' + (digit - '0' + 1 + random.nextInt(9)) % 10);
+    }
+
+    private static int number(char[] chars, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++) {
+            value = value * 10 + chars[i] - '0';
+        }
+        return value;
+    }
+}
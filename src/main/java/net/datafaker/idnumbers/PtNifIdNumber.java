@@ -1,6 +1,7 @@
 package net.datafaker.idnumbers;
 
 import net.datafaker.Faker;
+import net.datafaker.checksum.Mod11;
 
 /**
  * Portuguese VAT identification number (NIF)
@@ -41,19 +42,6 @@ public class PtNifIdNumber {
     }
 
     private int calculateDigitSum(String numbers) {
-        int checkSum = 0;
-        for (int i = 1; i <= numbers.length(); i++) {
-            int digit = Character.getNumericValue(numbers.charAt(i - 1));
-            checkSum += (10 - i) * digit;
-        }
-
-        int val = (checkSum / 11) * 11;
-        checkSum -= val;
-        if (checkSum == 0 || checkSum == 1) {
-            checkSum = 0;
-        } else {
-            checkSum = 11 - checkSum;
-        }
-        return checkSum;
+        return Mod11.checkDigit(numbers.toCharArray(), 0, numbers.length(), Mod11.NO_CYCLE);
     }
 }
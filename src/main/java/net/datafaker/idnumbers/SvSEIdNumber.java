@@ -1,10 +1,10 @@
 package net.datafaker.idnumbers;
 
 import net.datafaker.Faker;
+import net.datafaker.checksum.Luhn;
+import net.datafaker.service.RandomService;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
 
 /**
  * Implementation based on the definition at
@@ -13,96 +13,48 @@ import java.util.Date;
  * https://en.wikipedia.org/wiki/Personal_identity_number_(Sweden)
  */
 public class SvSEIdNumber {
-    private static final String[] validPatterns = {"######-####", "######+####"};
+    private static final char[] separators = {'-', '+'};
+    private static final int FIRST_YEAR = 1900;
+    private static final int LAST_YEAR = 2020;
+    private static final int CHECK_DIGIT = 10;
 
     public String getValidSsn(Faker f) {
-        String candidate = "";
-        while (!validSwedishSsn(candidate)) {
-            String pattern = getPattern(f);
-            candidate = f.numerify(pattern);
-        }
-
-        return candidate;
+        return new String(validSsn(f.random()));
     }
 
+    /**
+     * @return a valid number with a wrong check digit
+     */
     public String getInvalidSsn(Faker f) {
-        String candidate = "121212-1212"; // Seed with a valid number
-        while (validSwedishSsn(candidate)) {
-            String pattern = getPattern(f);
-            candidate = f.numerify(pattern);
-        }
-
-        return candidate;
+        final char[] ssn = validSsn(f.random());
+        ssn[CHECK_DIGIT] = IdNumberSupport.otherDigit(f.random(), ssn[CHECK_DIGIT]);
+        return new String(ssn);
     }
 
-    private String getPattern(Faker faker) {
-        return validPatterns[faker.random().nextInt(2)];
+    /**
+     * A date of birth {@code yyMMdd}, a separator, 3 birth digits and the Luhn check digit of the 9 digits
+     * before it.
+     */
+    private char[] validSsn(RandomService random) {
+        final char[] ssn = new char[11];
+        final LocalDate birthday = IdNumberSupport.randomDate(random, FIRST_YEAR, LAST_YEAR);
+        final int separator = IdNumberSupport.putDate(ssn, 0, birthday, 2);
+        ssn[separator] = separators[random.nextInt(2)];
+        IdNumberSupport.putRandomDigits(random, ssn, separator + 1, CHECK_DIGIT);
+        ssn[CHECK_DIGIT] = (char) ('0' + Luhn.checkDigit(ssn, 0, CHECK_DIGIT));
+        return ssn;
     }
 
     boolean validSwedishSsn(String ssn) {
         if (ssn.length() != 11) {
             return false;
         }
-
-        try {
-            if (parseDate(ssn)) {
-                return false;
-            }
-        } catch (ParseException e) {
+        final char[] chars = ssn.toCharArray();
+        if (!IdNumberSupport.isTwoDigitYearDate(chars, 0)
+                || chars[6] != separators[0] && chars[6] != separators[1]
+                || !IdNumberSupport.isDigits(chars, 7, 11)) {
             return false;
         }
-
-        int calculatedChecksum = calculateChecksum(ssn);
-        int checksum = Integer.parseInt(ssn.substring(10, 11));
-        return checksum == calculatedChecksum;
-    }
-
-    private boolean parseDate(String ssn) throws ParseException {
-        SimpleDateFormat sdf = new SimpleDateFormat("yyMMdd");
-        String dateString = ssn.substring(0, 6);
-        Date date = sdf.parse(dateString);
-
-        // want to check that the parsed date is equal to the supplied data, most of the attempts will fail
-        String reversed = sdf.format(date);
-        return !reversed.equals(dateString);
-    }
-
-    private int calculateChecksum(String number) {
-        String dateString = number.substring(0, 6);
-        String birthNumber = number.substring(7, 10);
-
-        String calculatedNumber = calculateDigits(dateString + birthNumber);
-        int sum = calculateDigitSum(calculatedNumber);
-
-        int lastDigit = (sum % 10);
-        int difference = 10 - lastDigit;
-
-        return (difference % 10);
-    }
-
-    private String calculateDigits(String numbers) {
-        StringBuilder calculatedNumbers = new StringBuilder();
-        for (int i = 0; i < 9; i++) {
-            int res;
-            int n = Integer.parseInt(numbers.substring(i, i + 1));
-            if (i % 2 == 0) {
-                res = n << 1;
-            } else {
-                res = n;
-            }
-
-            calculatedNumbers.append(res);
-        }
-        return calculatedNumbers.toString();
+        return chars[CHECK_DIGIT] - '0' == Luhn.checkDigit(chars, 0, CHECK_DIGIT);
     }
-
-    private int calculateDigitSum(String numbers) {
-        int sum = 0;
-        for (int i = 0; i < numbers.length(); i++) {
-            int n = Integer.parseInt(numbers.substring(i, i + 1));
-            sum += n;
-        }
-        return sum;
-    }
-
-}
\ No newline at end of file
+}
@@ -3,9 +3,7 @@ package net.datafaker.idnumbers;
 import net.datafaker.Faker;
 import net.datafaker.service.RandomService;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.LocalDate;
 
 /**
  * This class is used for generating Zh_CN Id numbers.
@@ -13,6 +11,8 @@ import java.util.Date;
  * @author irakatz
  */
 public class ZhCnIdNumber {
+    private static final int[] WEIGHTS = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+
     /**
      * list all combination of first 6 bits, they are locations
      */
@@ -22,60 +22,23 @@ public class ZhCnIdNumber {
      * Generate a valid Zh_CN Id numbers
      *
      * @param faker a Faker instance for generating Zh_CN Id numbers
-     * @return a Zh_CN Id numbers string. or null if exception.
+     * @return a Zh_CN Id numbers string
      */
     public String getValidSsn(Faker faker) {
         final RandomService random = faker.random();
-        String s = "";
-        long date;
-        try {
-            String startTime = "1900-01-01";
-            String endTime = "2020-12-31";
-
-            SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd");
-            Date start = format.parse(startTime);
-            Date end = format.parse(endTime);
-            date = start.getTime() + (long) (random.nextDouble() * (end.getTime() - start.getTime()));
-        } catch (ParseException e) {
-            return null;
-        }
-        String pickedDate = new SimpleDateFormat("yyyyMMdd").format(date);
-        s += pickedDate;
-        RandomService rand = faker.random();
-        int randnum = faker.random().nextInt(locations.length);
-        String pickedLocation = locations[randnum];
-        s += pickedLocation;
-        int pickedSequence1 = rand.nextInt(10);
-        int pickedSequence2 = rand.nextInt(10);
-        int pickedSequence3 = rand.nextInt(10);
-        s += pickedSequence1;
-        s += pickedSequence2;
-        s += pickedSequence3;
+        final char[] ssn = new char[18];
+        final LocalDate birthday = IdNumberSupport.randomDate(random, 1900, 2020);
+        final int location = IdNumberSupport.putDate(ssn, 0, birthday, 4);
+        final String pickedLocation = locations[random.nextInt(locations.length)];
+        pickedLocation.getChars(0, pickedLocation.length(), ssn, location);
+        IdNumberSupport.putRandomDigits(random, ssn, location + pickedLocation.length(), 17);
         int count = 0;
-        count += (s.charAt(0) - '0') * 7;
-        count += (s.charAt(1) - '0') * 9;
-        count += (s.charAt(2) - '0') * 10;
-        count += (s.charAt(3) - '0') * 5;
-        count += (s.charAt(4) - '0') * 8;
-        count += (s.charAt(5) - '0') * 4;
-        count += (s.charAt(6) - '0') * 2;
-        count += (s.charAt(7) - '0') * 1;
-        count += (s.charAt(8) - '0') * 6;
-        count += (s.charAt(9) - '0') * 3;
-        count += (s.charAt(10) - '0') * 7;
-        count += (s.charAt(11) - '0') * 9;
-        count += (s.charAt(12) - '0') * 10;
-        count += (s.charAt(13) - '0') * 5;
-        count += (s.charAt(14) - '0') * 8;
-        count += (s.charAt(15) - '0') * 4;
-        count += (s.charAt(16) - '0') * 2;
-        count %= 11;
-        if (count == 10) {
-            s += 'X';
-        } else {
-            s += (count + "");
+        for (int i = 0; i < WEIGHTS.length; i++) {
+            count += (ssn[i] - '0') * WEIGHTS[i];
         }
-        return s;
+        count %= 11;
+        ssn[17] = count == 10 ? 'X' : (char) ('0' + count);
+        return new String(ssn);
     }
 
 }
@@ -1,6 +1,8 @@
 package net.datafaker.idnumbers.pt.br;
 
 import net.datafaker.Faker;
+import net.datafaker.checksum.Mod11;
+import net.datafaker.service.RandomService;
 
 public final class IdNumberGeneratorPtBrUtil {
 
@@ -11,70 +13,43 @@ public final class IdNumberGeneratorPtBrUtil {
      * https://en.wikipedia.org/wiki/CNPJ
      *
      * @param formatted a cnpj (un)formatted
-     * @param valid a cnpj (in)valid
+     * @param valid a cnpj (in)valid: an invalid CNPJ is a valid one with a wrong last digit
      */
     public static String cnpj(Faker faker, boolean formatted, boolean valid) {
-        String cnpj;
-
-        if (valid) {
-            StringBuilder partial = new StringBuilder();
-            for (int i = 0; i < 8; i++) {
-                partial.append(faker.random().nextInt(9));
-            }
-
-            cnpj = partial.append("0001").toString();
-
-            int d1 = digit(calculateWeight(cnpj.substring(4, 12), 9) + calculateWeight(cnpj.substring(0, 4), 5));
-            int d2 = digit((d1 * 2) + calculateWeight(cnpj.substring(5, 12), 9) + calculateWeight(cnpj.substring(0, 5), 6));
-
-            cnpj = (cnpj + d1) + d2;
-        } else {
-            cnpj = String.valueOf(faker.random().nextInt(1000000000) + (faker.random().nextInt(90) + 10) * 1000000000000L);
+        final RandomService random = faker.random();
+        final char[] cnpj = new char[14];
+        for (int i = 0; i < 8; i++) {
+            cnpj[i] = (char) ('0' + random.nextInt(9));
         }
-
-        String result = (formatted) ? DocumentFormatterUtil.cnpj(cnpj) : cnpj;
-
-        // Sometimes the generated number is not what you expected, for example, you expected an invalid number,
-        // but the generated number is valid. This fixes the issue by generating a new number until it matches the expectation.
-        if(isCNPJValid(result) != valid) {
-            result = cnpj(faker, formatted, valid);
+        "0001".getChars(0, 4, cnpj, 8);
+        Mod11.putCnpjCheckDigits(cnpj, 0);
+        if (!valid) {
+            invalidate(random, cnpj);
         }
 
-        return result;
+        final String result = new String(cnpj);
+        return formatted ? DocumentFormatterUtil.cnpj(result) : result;
     }
 
     /**
      * https://en.wikipedia.org/wiki/CPF_number
      *
      * @param formatted a CPF (un)formatted
-     * @param valid a CPF (in)valid
+     * @param valid a CPF (in)valid: an invalid CPF is a valid one with a wrong last digit
      */
     public static String cpf(Faker faker, boolean formatted, boolean valid) {
-        String cpf;
-        if (valid) {
-            StringBuilder partial = new StringBuilder();
-            for (int i = 0; i < 9; i++) {
-                partial.append(faker.random().nextInt(9));
-            }
-            cpf = partial.toString();
-
-            int d1 = digit(calculateWeight(cpf, 10));
-            int d2 = digit((d1 * 2) + calculateWeight(cpf, 11));
-
-            cpf = (cpf + d1) + d2;
-        } else {
-            cpf = String.valueOf(faker.random().nextInt(1000000000) + (faker.random().nextInt(90) + 10) * 1000000000L);
+        final RandomService random = faker.random();
+        final char[] cpf = new char[11];
+        for (int i = 0; i < 9; i++) {
+            cpf[i] = (char) ('0' + random.nextInt(9));
         }
-
-        String result = formatted ? DocumentFormatterUtil.cpf(cpf) : cpf;
-
-        if(isCPFValid(result) != valid) {
-            // Sometimes the generated number is not what you expected, for example, you expected an invalid number,
-            // but the generated number is valid. This fixes the issue by generating a new number until it matches the expectation.
-            result = cpf(faker, formatted, valid);
+        Mod11.putCpfCheckDigits(cpf, 0);
+        if (!valid) {
+            invalidate(random, cpf);
         }
 
-        return result;
+        final String result = new String(cpf);
+        return formatted ? DocumentFormatterUtil.cpf(result) : result;
     }
 
     /**
@@ -85,15 +60,7 @@ public final class IdNumberGeneratorPtBrUtil {
      * registration with invalid number
      */
     public static Boolean isCNPJValid(final String cnpj) {
-        String cnpjUnmask = DocumentFormatterUtil.unmask(cnpj);
-        String cnpjPartial = cnpjUnmask.substring(0, 12);
-
-        int d1 = digit(calculateWeight(cnpjPartial.substring(4, 12), 9) + calculateWeight(cnpjPartial.substring(0, 4), 5));
-        int d2 = digit((d1 * 2) + calculateWeight(cnpjPartial.substring(5, 12), 9) + calculateWeight(cnpjPartial.substring(0, 5), 6));
-
-        String anObject = (cnpjPartial + d1) + d2;
-
-        return cnpjUnmask.equals(anObject);
+        return Mod11.isValidCnpj(cnpj);
     }
 
     /**
@@ -104,27 +71,27 @@ public final class IdNumberGeneratorPtBrUtil {
      * registration with invalid number
      */
     public static Boolean isCPFValid(final String cpf) {
-        String cpfUnmask = DocumentFormatterUtil.unmask(cpf);
-
-        String cpfPartial = cpfUnmask.substring(0, 9);
-
-        int d1 = digit(calculateWeight(cpfPartial, 10));
-        int d2 = digit((d1 * 2) + calculateWeight(cpfPartial, 11));
-
-        return cpfUnmask.equals((cpfPartial + d1) + d2);
+        return Mod11.isValidCpf(cpf);
     }
 
-
+    /**
+     * @deprecated no longer used by the generators, use {@link Mod11#checkDigit(char[], int, int, int)}
+     */
+    @Deprecated
     public static int calculateWeight(final String num, final int weight) {
         int sum = 0;
         int weightAux = weight;
 
         for (int index = 0; index < num.length(); index++) {
-            sum += Integer.parseInt(num.substring(index, index + 1)) * weightAux--;
+            sum += (num.charAt(index) - '0') * weightAux--;
         }
         return sum;
     }
 
+    /**
+     * @deprecated no longer used by the generators, use {@link Mod11#checkDigit(char[], int, int, int)}
+     */
+    @Deprecated
     public static int digit(int verifyingDigit) {
         if (verifyingDigit % 11 == 0 || verifyingDigit % 11 == 1)
             return 0;
@@ -132,4 +99,13 @@ public final class IdNumberGeneratorPtBrUtil {
             return 11 - verifyingDigit % 11;
     }
 
+    /**
+     * Replaces the last check digit by another digit: the first check digit stays right, so the number looks
+     * plausible, but it fails validation.
+     */
+    private static void invalidate(RandomService random, char[] digits) {
+        final int last = digits.length - 1;
+        digits[last] = (char) ('0' + (digits[last] - '0' + 1 + random.nextInt(9)) % 10);
+    }
+
 }
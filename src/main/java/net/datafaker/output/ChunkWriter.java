@@ -0,0 +1,392 @@
+package net.datafaker.output;
+
+import net.datafaker.Faker;
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Schema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the records of {@link Chunk}s to a channel. Values are encoded as UTF-8 straight into a reused buffer,
+ * copied into a direct {@link ByteBuffer} and written to the channel whenever it is full, so no string is built
+ * per record. Encoding into an array and copying it in bulk is faster than putting single bytes into the direct
+ * buffer.
+ */
+public abstract class ChunkWriter implements Closeable {
+    public static final int DEFAULT_FLUSH_SIZE = 1 << 20;
+    static final int MIN_FLUSH_SIZE = 64;
+
+    private static final byte[] DIGIT_TENS = new byte[100];
+    private static final byte[] DIGIT_ONES = new byte[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            DIGIT_TENS[i] = (byte) ('0' + i / 10);
+            DIGIT_ONES[i] = (byte) ('0' + i % 10);
+        }
+    }
+
+    private final WritableByteChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private int position;
+    private final StringBuilder number = new StringBuilder(32);
+    private char[] chars = new char[64];
+    private boolean closed;
+
+    /**
+     * @param flushSize the size of the buffer, written to the channel when full
+     */
+    protected ChunkWriter(WritableByteChannel channel, int flushSize) {
+        if (flushSize < MIN_FLUSH_SIZE) {
+            throw new IllegalArgumentException("flushSize must be at least " + MIN_FLUSH_SIZE + " bytes");
+        }
+        this.channel = channel;
+        this.bytes = new byte[flushSize];
+        this.buffer = ByteBuffer.allocateDirect(flushSize);
+    }
+
+    /**
+     * Opens a file for writing, replacing its content.
+     */
+    protected static FileChannel open(Path file) throws IOException {
+        return FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Writes the records of the chunk.
+     */
+    public abstract void write(Chunk chunk) throws IOException;
+
+    /**
+     * Generates {@code rows} records of the schema and writes them.
+     */
+    public void write(Schema schema, Faker faker, long rows) throws IOException {
+        begin(schema);
+        if (rows <= 0) {
+            return;
+        }
+        final Chunk chunk = schema.newChunk((int) Math.min(Schema.DEFAULT_CHUNK_SIZE, rows));
+        for (long remaining = rows; remaining > 0; ) {
+            final int size = (int) Math.min(remaining, chunk.capacity());
+            schema.fill(faker, chunk, size);
+            write(chunk);
+            remaining -= size;
+        }
+    }
+
+    /**
+     * Writes the buffered bytes to the channel.
+     */
+    public void flush() throws IOException {
+        buffer.clear();
+        buffer.put(bytes, 0, position);
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        position = 0;
+    }
+
+    /**
+     * Flushes the buffer and closes the channel.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            finish();
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Called by {@link #write(Schema, Faker, long)} before the records are generated, even if there are none.
+     */
+    protected void begin(Schema schema) throws IOException {
+    }
+
+    /**
+     * Called by {@link #close()} before the last flush, to end the output.
+     */
+    protected void finish() throws IOException {
+    }
+
+    /**
+     * Makes room for {@code count} bytes in the buffer, at most {@link #MIN_FLUSH_SIZE}.
+     */
+    protected final void ensure(int count) throws IOException {
+        if (bytes.length - position < count) {
+            flush();
+        }
+    }
+
+    protected final void put(byte b) throws IOException {
+        if (position == bytes.length) {
+            flush();
+        }
+        bytes[position++] = b;
+    }
+
+    /**
+     * Writes a string of ASCII characters, such as a delimiter or a keyword.
+     */
+    protected final void putAscii(String ascii) throws IOException {
+        for (int i = 0; i < ascii.length(); i++) {
+            put((byte) ascii.charAt(i));
+        }
+    }
+
+    /**
+     * Encodes a character as UTF-8. A surrogate pair is encoded with {@link #putCodePoint(char[], int, int)}.
+     */
+    protected final void putChar(char c) throws IOException {
+        ensure(3);
+        if (c < 0x80) {
+            bytes[position++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[position++] = (byte) (0xC0 | (c >> 6));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        } else {
+            bytes[position++] = (byte) (0xE0 | (c >> 12));
+            bytes[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    /**
+     * Encodes the character at {@code index} as UTF-8, with the following low surrogate for a surrogate pair.
+     * Unpaired surrogates are replaced by {@code ?}, like {@link String#getBytes(java.nio.charset.Charset)}.
+     *
+     * @return the number of characters consumed, 1 or 2
+     */
+    protected final int putCodePoint(char[] text, int index, int end) throws IOException {
+        final char c = text[index];
+        if (!Character.isSurrogate(c)) {
+            putChar(c);
+            return 1;
+        }
+        if (Character.isHighSurrogate(c) && index + 1 < end && Character.isLowSurrogate(text[index + 1])) {
+            final int codePoint = Character.toCodePoint(c, text[index + 1]);
+            ensure(4);
+            bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            return 2;
+        }
+        put((byte) '?');
+        return 1;
+    }
+
+    /**
+     * Copies the characters of a string into a reused array, which is faster to scan and encode than
+     * {@link String#charAt(int)}.
+     *
+     * @return the array, valid until the next call
+     */
+    protected final char[] chars(String text) {
+        if (chars.length < text.length()) {
+            chars = new char[Math.max(text.length(), 2 * chars.length)];
+        }
+        text.getChars(0, text.length(), chars, 0);
+        return chars;
+    }
+
+    /**
+     * Encodes characters {@code [from, to)} as UTF-8. A run of ASCII characters that fits in the buffer is copied
+     * in one loop.
+     */
+    protected final void putUtf8(char[] text, int from, int to) throws IOException {
+        int i = from;
+        if (to - from <= bytes.length) {
+            ensure(to - from);
+            int p = position;
+            while (i < to) {
+                final char c = text[i];
+                if (c >= 0x80) {
+                    break;
+                }
+                bytes[p++] = (byte) c;
+                i++;
+            }
+            position = p;
+        }
+        while (i < to) {
+            i += putCodePoint(text, i, to);
+        }
+    }
+
+    /**
+     * Copies characters from {@code from} as ASCII bytes, until the end, a non ASCII character or a character
+     * marked in {@code stop}. Nothing is copied unless the buffer has room for all the characters, so the copied
+     * bytes can be taken back with {@link #unput(int)}.
+     *
+     * @return the index of the first character not copied
+     */
+    protected final int putAsciiUntil(char[] text, int from, int to, boolean[] stop) throws IOException {
+        if (to - from > bytes.length) {
+            return from;
+        }
+        ensure(to - from);
+        int p = position;
+        int i = from;
+        while (i < to) {
+            final char c = text[i];
+            if (c >= 0x80 || stop[c]) {
+                break;
+            }
+            bytes[p++] = (byte) c;
+            i++;
+        }
+        position = p;
+        return i;
+    }
+
+    /**
+     * Takes back the last {@code count} bytes written by {@link #putAsciiUntil(char[], int, int, boolean[])}.
+     */
+    protected final void unput(int count) {
+        position -= count;
+    }
+
+    /**
+     * Encodes a string as UTF-8.
+     */
+    protected final void putUtf8(String text) throws IOException {
+        putUtf8(chars(text), 0, text.length());
+    }
+
+    /**
+     * @return the number of bytes of characters {@code [from, to)} in UTF-8, as written by
+     * {@link #putUtf8(char[], int, int)}
+     */
+    protected static int utf8Length(char[] text, int from, int to) {
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            final char c = text[i];
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(text[i + 1])) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Writes a short in binary, big-endian.
+     */
+    protected final void putInt16(int value) throws IOException {
+        ensure(2);
+        bytes[position++] = (byte) (value >> 8);
+        bytes[position++] = (byte) value;
+    }
+
+    /**
+     * Writes an int in binary, big-endian.
+     */
+    protected final void putInt32(int value) throws IOException {
+        ensure(4);
+        bytes[position++] = (byte) (value >> 24);
+        bytes[position++] = (byte) (value >> 16);
+        bytes[position++] = (byte) (value >> 8);
+        bytes[position++] = (byte) value;
+    }
+
+    /**
+     * Writes a long in binary, big-endian.
+     */
+    protected final void putInt64(long value) throws IOException {
+        ensure(8);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[position++] = (byte) (value >> shift);
+        }
+    }
+
+    protected final void putInt(int value) throws IOException {
+        putLong(value);
+    }
+
+    /**
+     * Writes the decimal digits of a long, without creating a string. Two digits are written per division, like
+     * {@link Long#toString(long)}.
+     */
+    protected final void putLong(long value) throws IOException {
+        ensure(20);
+        if (value == Long.MIN_VALUE) {
+            putAscii("-9223372036854775808");
+            return;
+        }
+        if (value < 0) {
+            bytes[position++] = '-';
+            value = -value;
+        }
+        final int end = position + digits(value);
+        int p = end;
+        while (value > Integer.MAX_VALUE) {
+            final long q = value / 100;
+            final int r = (int) (value - q * 100);
+            value = q;
+            bytes[--p] = DIGIT_ONES[r];
+            bytes[--p] = DIGIT_TENS[r];
+        }
+        int i = (int) value;
+        while (i >= 100) {
+            final int q = i / 100;
+            final int r = i - q * 100;
+            i = q;
+            bytes[--p] = DIGIT_ONES[r];
+            bytes[--p] = DIGIT_TENS[r];
+        }
+        if (i >= 10) {
+            bytes[--p] = DIGIT_ONES[i];
+            bytes[--p] = DIGIT_TENS[i];
+        } else {
+            bytes[--p] = (byte) ('0' + i);
+        }
+        position = end;
+    }
+
+    private static int digits(long value) {
+        long bound = 10;
+        for (int digits = 1; digits < 19; digits++) {
+            if (value < bound) {
+                return digits;
+            }
+            bound *= 10;
+        }
+        return 19;
+    }
+
+    /**
+     * Writes a double like {@link Double#toString(double)}.
+     */
+    protected final void putDouble(double value) throws IOException {
+        number.setLength(0);
+        number.append(value);
+        ensure(number.length());
+        for (int i = 0; i < number.length(); i++) {
+            bytes[position++] = (byte) number.charAt(i);
+        }
+    }
+}
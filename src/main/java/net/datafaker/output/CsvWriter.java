@@ -0,0 +1,238 @@
+package net.datafaker.output;
+
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Column;
+import net.datafaker.schema.Schema;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes records as CSV (RFC 4180) or TSV:
+ * <pre>
+ * try (CsvWriter writer = CsvWriter.builder().header(true).build(Paths.get("people.csv"))) {
+ *     writer.write(schema, faker, 10_000_000);
+ * }
+ * </pre>
+ * In CSV, values containing the delimiter, a quote or a line break are quoted and their quotes doubled. TSV
+ * values can't be quoted, so tabs, line breaks and backslashes are escaped as {@code \t}, {@code \n},
+ * {@code \r} and {@code \\}. Null values are written as empty fields. The header is written even without
+ * records, if the schema is known from {@link #write(Schema, net.datafaker.Faker, long)}.
+ */
+public final class CsvWriter extends ChunkWriter {
+    private final char delimiter;
+    private final char quote;
+    private final boolean escape;
+    private final boolean header;
+    private final String lineSeparator;
+    private final boolean[] special = new boolean[128];
+    private List<Column> columns;
+    private boolean headerWritten;
+
+    private CsvWriter(WritableByteChannel channel, Builder builder) throws IOException {
+        super(channel, builder.flushSize);
+        this.delimiter = builder.delimiter;
+        this.quote = builder.quote;
+        this.escape = builder.escape;
+        this.header = builder.header;
+        this.lineSeparator = builder.lineSeparator;
+        for (char c : new char[] {delimiter, quote, '\n', '\r'}) {
+            if (c < special.length) {
+                special[c] = true;
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    protected void begin(Schema schema) {
+        if (columns == null) {
+            columns = schema.getColumns();
+        }
+    }
+
+    @Override
+    public void write(Chunk chunk) throws IOException {
+        final List<Column> columns = chunk.getSchema().getColumns();
+        if (header && !headerWritten) {
+            putHeader(columns);
+        }
+        final int columnCount = columns.size();
+        for (int row = 0; row < chunk.size(); row++) {
+            for (int c = 0; c < columnCount; c++) {
+                if (c > 0) {
+                    putChar(delimiter);
+                }
+                switch (chunk.type(c)) {
+                    case INT:
+                        putInt(chunk.ints(c)[row]);
+                        break;
+                    case LONG:
+                        putLong(chunk.longs(c)[row]);
+                        break;
+                    case DOUBLE:
+                        putDouble(chunk.doubles(c)[row]);
+                        break;
+                    default:
+                        putText(chunk.strings(c)[row]);
+                }
+            }
+            putAscii(lineSeparator);
+        }
+    }
+
+    /**
+     * Writes the header if no record was written.
+     */
+    @Override
+    protected void finish() throws IOException {
+        if (header && !headerWritten && columns != null) {
+            putHeader(columns);
+        }
+    }
+
+    private void putHeader(List<Column> columns) throws IOException {
+        for (int c = 0; c < columns.size(); c++) {
+            if (c > 0) {
+                putChar(delimiter);
+            }
+            putText(columns.get(c).getName());
+        }
+        putAscii(lineSeparator);
+        headerWritten = true;
+    }
+
+    private void putText(String text) throws IOException {
+        if (text == null) {
+            return;
+        }
+        final char[] chars = chars(text);
+        final int length = text.length();
+        if (escape) {
+            putEscaped(chars, length);
+            return;
+        }
+        final int copied = putAsciiUntil(chars, 0, length, special);
+        if (copied == length) {
+            return;
+        }
+        if (needsQuotes(chars, copied, length)) {
+            unput(copied);
+            putQuoted(chars, length);
+        } else {
+            putUtf8(chars, copied, length);
+        }
+    }
+
+    private boolean needsQuotes(char[] chars, int from, int length) {
+        for (int i = from; i < length; i++) {
+            final char c = chars[i];
+            if (c == delimiter || c == quote || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void putQuoted(char[] chars, int length) throws IOException {
+        putChar(quote);
+        for (int i = 0; i < length; ) {
+            if (chars[i] == quote) {
+                putChar(quote);
+            }
+            i += putCodePoint(chars, i, length);
+        }
+        putChar(quote);
+    }
+
+    private void putEscaped(char[] chars, int length) throws IOException {
+        int from = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = chars[i];
+            final String escaped;
+            if (c == delimiter) {
+                escaped = c == '\t' ? "\\t" : "\\" + c;
+            } else if (c == '\n') {
+                escaped = "\\n";
+            } else if (c == '\r') {
+                escaped = "\\r";
+            } else if (c == '\\') {
+                escaped = "\\\\";
+            } else {
+                continue;
+            }
+            putUtf8(chars, from, i);
+            putAscii(escaped);
+            from = i + 1;
+        }
+        putUtf8(chars, from, length);
+    }
+
+    public static final class Builder {
+        private char delimiter = ',';
+        private char quote = '"';
+        private boolean escape;
+        private boolean header;
+        private String lineSeparator = "\n";
+        private int flushSize = DEFAULT_FLUSH_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * Tab separated values, with escapes instead of quotes.
+         */
+        public Builder tsv() {
+            this.delimiter = '\t';
+            this.escape = true;
+            return this;
+        }
+
+        public Builder delimiter(char delimiter) {
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        public Builder quote(char quote) {
+            this.quote = quote;
+            return this;
+        }
+
+        /**
+         * @param header whether the first line holds the names of the columns
+         */
+        public Builder header(boolean header) {
+            this.header = header;
+            return this;
+        }
+
+        /**
+         * @param lineSeparator the end of a record, {@code \n} by default; RFC 4180 uses {@code \r\n}
+         */
+        public Builder lineSeparator(String lineSeparator) {
+            this.lineSeparator = lineSeparator;
+            return this;
+        }
+
+        /**
+         * @param flushSize the number of bytes buffered before writing to the channel
+         */
+        public Builder flushSize(int flushSize) {
+            this.flushSize = flushSize;
+            return this;
+        }
+
+        public CsvWriter build(WritableByteChannel channel) throws IOException {
+            return new CsvWriter(channel, this);
+        }
+
+        public CsvWriter build(Path file) throws IOException {
+            return build(open(file));
+        }
+    }
+}
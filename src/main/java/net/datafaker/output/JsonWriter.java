@@ -0,0 +1,339 @@
+package net.datafaker.output;
+
+import net.datafaker.Faker;
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Column;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes records as JSON Lines, one document per line, or as a JSON array of documents. Documents are written as
+ * a stream of tokens, so nested objects and arrays need no object tree:
+ * <pre>
+ * try (JsonWriter writer = JsonWriter.builder().build(Paths.get("people.jsonl"))) {
+ *     writer.write(faker, 10_000_000, (f, json) -&gt; {
+ *         json.beginObject().name("name").value(f.name().fullName());
+ *         json.name("addresses").beginArray();
+ *         for (int i = 0; i &lt; 2; i++) {
+ *             json.beginObject().name("city").value(f.address().city()).endObject();
+ *         }
+ *         json.endArray().endObject();
+ *     });
+ * }
+ * </pre>
+ * Strings are escaped as required by RFC 8259 and written as UTF-8. {@code NaN} and infinite doubles, which
+ * JSON can't represent, are written as {@code null}.
+ */
+public final class JsonWriter extends ChunkWriter {
+    private static final int DOCUMENT = 0;
+    private static final int EMPTY_OBJECT = 1;
+    private static final int NONEMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int EMPTY_ARRAY = 4;
+    private static final int NONEMPTY_ARRAY = 5;
+
+    private static final boolean[] ESCAPED = new boolean[128];
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+
+    static {
+        Arrays.fill(ESCAPED, 0, 0x20, true);
+        ESCAPED['"'] = true;
+        ESCAPED['\\'] = true;
+    }
+
+    /**
+     * Writes one document.
+     */
+    @FunctionalInterface
+    public interface Document {
+        void write(Faker faker, JsonWriter json) throws IOException;
+    }
+
+    private final boolean array;
+    private int[] scopes = new int[16];
+    private int depth;
+    private long documents;
+
+    private JsonWriter(WritableByteChannel channel, Builder builder) throws IOException {
+        super(channel, builder.flushSize);
+        this.array = builder.array;
+        scopes[0] = DOCUMENT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Writes every record of the chunk as an object of its columns.
+     */
+    @Override
+    public void write(Chunk chunk) throws IOException {
+        final List<Column> columns = chunk.getSchema().getColumns();
+        for (int row = 0; row < chunk.size(); row++) {
+            beginObject();
+            for (int c = 0; c < columns.size(); c++) {
+                name(columns.get(c).getName());
+                switch (chunk.type(c)) {
+                    case INT:
+                        value(chunk.ints(c)[row]);
+                        break;
+                    case LONG:
+                        value(chunk.longs(c)[row]);
+                        break;
+                    case DOUBLE:
+                        value(chunk.doubles(c)[row]);
+                        break;
+                    default:
+                        value(chunk.strings(c)[row]);
+                }
+            }
+            endObject();
+        }
+    }
+
+    /**
+     * Writes {@code count} documents.
+     */
+    public void write(Faker faker, long count, Document document) throws IOException {
+        for (long i = 0; i < count; i++) {
+            document.write(faker, this);
+            if (depth != 0) {
+                throw new IllegalStateException("The document has unclosed objects or arrays");
+            }
+        }
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        put((byte) '{');
+        return this;
+    }
+
+    public JsonWriter endObject() throws IOException {
+        final int scope = scopes[depth];
+        if (scope != EMPTY_OBJECT && scope != NONEMPTY_OBJECT) {
+            throw new IllegalStateException("No object to end");
+        }
+        depth--;
+        put((byte) '}');
+        afterValue();
+        return this;
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        put((byte) '[');
+        return this;
+    }
+
+    public JsonWriter endArray() throws IOException {
+        final int scope = scopes[depth];
+        if (scope != EMPTY_ARRAY && scope != NONEMPTY_ARRAY) {
+            throw new IllegalStateException("No array to end");
+        }
+        depth--;
+        put((byte) ']');
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes the name of the next member of an object.
+     */
+    public JsonWriter name(String name) throws IOException {
+        final int scope = scopes[depth];
+        if (scope == NONEMPTY_OBJECT) {
+            put((byte) ',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new IllegalStateException("A name is only allowed in an object: " + name);
+        }
+        putString(name);
+        put((byte) ':');
+        scopes[depth] = DANGLING_NAME;
+        return this;
+    }
+
+    /**
+     * Writes a string, or {@code null}.
+     */
+    public JsonWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        putString(value);
+        afterValue();
+        return this;
+    }
+
+    public JsonWriter value(long value) throws IOException {
+        beforeValue();
+        putLong(value);
+        afterValue();
+        return this;
+    }
+
+    /**
+     * Writes a number, or {@code null} for {@code NaN} and infinite values.
+     */
+    public JsonWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nullValue();
+        }
+        beforeValue();
+        putDouble(value);
+        afterValue();
+        return this;
+    }
+
+    public JsonWriter value(boolean value) throws IOException {
+        beforeValue();
+        putAscii(value ? "true" : "false");
+        afterValue();
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        beforeValue();
+        putAscii("null");
+        afterValue();
+        return this;
+    }
+
+    @Override
+    protected void finish() throws IOException {
+        if (depth != 0) {
+            throw new IllegalStateException("The document has unclosed objects or arrays");
+        }
+        if (array) {
+            put(documents == 0 ? (byte) '[' : (byte) '\n');
+            put((byte) ']');
+            put((byte) '\n');
+        }
+    }
+
+    private void push(int scope) {
+        if (++depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, 2 * scopes.length);
+        }
+        scopes[depth] = scope;
+    }
+
+    private void beforeValue() throws IOException {
+        switch (scopes[depth]) {
+            case DOCUMENT:
+                if (array) {
+                    putAscii(documents == 0 ? "[\n" : ",\n");
+                }
+                documents++;
+                break;
+            case DANGLING_NAME:
+                scopes[depth] = NONEMPTY_OBJECT;
+                break;
+            case EMPTY_ARRAY:
+                scopes[depth] = NONEMPTY_ARRAY;
+                break;
+            case NONEMPTY_ARRAY:
+                put((byte) ',');
+                break;
+            default:
+                throw new IllegalStateException("A value in an object needs a name");
+        }
+    }
+
+    private void afterValue() throws IOException {
+        if (depth == 0 && !array) {
+            put((byte) '\n');
+        }
+    }
+
+    private void putString(String value) throws IOException {
+        final char[] chars = chars(value);
+        final int length = value.length();
+        put((byte) '"');
+        int from = 0;
+        while (from < length) {
+            from = putAsciiUntil(chars, from, length, ESCAPED);
+            if (from == length) {
+                break;
+            }
+            final char c = chars[from];
+            if (c < 0x20 || c == '"' || c == '\\') {
+                putEscape(c);
+                from++;
+            } else {
+                from += putCodePoint(chars, from, length);
+            }
+        }
+        put((byte) '"');
+    }
+
+    private void putEscape(char c) throws IOException {
+        switch (c) {
+            case '"':
+                putAscii("\\\"");
+                break;
+            case '\\':
+                putAscii("\\\\");
+                break;
+            case '\n':
+                putAscii("\\n");
+                break;
+            case '\r':
+                putAscii("\\r");
+                break;
+            case '\t':
+                putAscii("\\t");
+                break;
+            case '\b':
+                putAscii("\\b");
+                break;
+            case '\f':
+                putAscii("\\f");
+                break;
+            default:
+                putAscii("\\u00");
+                put(HEX[c >> 4]);
+                put(HEX[c & 0xF]);
+        }
+    }
+
+    public static final class Builder {
+        private boolean array;
+        private int flushSize = DEFAULT_FLUSH_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * @param array whether to write a JSON array of the documents instead of JSON Lines
+         */
+        public Builder array(boolean array) {
+            this.array = array;
+            return this;
+        }
+
+        /**
+         * @param flushSize the number of bytes buffered before writing to the channel
+         */
+        public Builder flushSize(int flushSize) {
+            this.flushSize = flushSize;
+            return this;
+        }
+
+        public JsonWriter build(WritableByteChannel channel) throws IOException {
+            return new JsonWriter(channel, this);
+        }
+
+        public JsonWriter build(Path file) throws IOException {
+            return build(open(file));
+        }
+    }
+}
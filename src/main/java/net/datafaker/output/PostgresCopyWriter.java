@@ -0,0 +1,230 @@
+package net.datafaker.output;
+
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Column;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes records in the text or binary format of PostgreSQL {@code COPY ... FROM STDIN}, e.g. for
+ * {@code CopyManager.copyIn} of the JDBC driver.
+ * <p>
+ * The text format escapes backslashes, tabs and line breaks and writes {@code \N} for null. With
+ * {@link Builder#statement(boolean)}, the data is preceded by the {@code COPY} statement and followed by the end
+ * marker {@code \.}, so the file can be run by {@code psql}.
+ * <p>
+ * In the binary format, string, int, long and double columns are written as {@code text}, {@code int4},
+ * {@code int8} and {@code float8}; the columns of the table must have these types.
+ */
+public final class PostgresCopyWriter extends ChunkWriter {
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final boolean[] ESCAPED = new boolean[128];
+
+    static {
+        ESCAPED['\\'] = true;
+        ESCAPED['\t'] = true;
+        ESCAPED['\n'] = true;
+        ESCAPED['\r'] = true;
+    }
+
+    private final String table;
+    private final boolean binary;
+    private final boolean statement;
+    private boolean started;
+
+    private PostgresCopyWriter(WritableByteChannel channel, Builder builder) throws IOException {
+        super(channel, builder.flushSize);
+        this.table = builder.table;
+        this.binary = builder.binary;
+        this.statement = builder.statement;
+        if (binary) {
+            for (byte b : SIGNATURE) {
+                put(b);
+            }
+            putInt32(0);
+            putInt32(0);
+        }
+    }
+
+    /**
+     * @param table the name of the table in the {@code COPY} statement, quoted as one identifier
+     */
+    public static Builder builder(String table) {
+        return new Builder(table);
+    }
+
+    @Override
+    public void write(Chunk chunk) throws IOException {
+        final List<Column> columns = chunk.getSchema().getColumns();
+        if (statement && !started) {
+            putUtf8(copyStatement(columns));
+        }
+        started = true;
+        if (binary) {
+            writeBinary(chunk, columns.size());
+        } else {
+            writeText(chunk, columns.size());
+        }
+    }
+
+    @Override
+    protected void finish() throws IOException {
+        if (binary) {
+            putInt16(-1);
+        } else if (statement && started) {
+            putAscii("\\.\n");
+        }
+    }
+
+    private String copyStatement(List<Column> columns) {
+        final StringBuilder sb = new StringBuilder("COPY ")
+                .append(SqlDialect.POSTGRESQL.quoteIdentifier(table)).append(" (");
+        for (int c = 0; c < columns.size(); c++) {
+            if (c > 0) {
+                sb.append(", ");
+            }
+            sb.append(SqlDialect.POSTGRESQL.quoteIdentifier(columns.get(c).getName()));
+        }
+        return sb.append(") FROM STDIN;\n").toString();
+    }
+
+    private void writeText(Chunk chunk, int columns) throws IOException {
+        for (int row = 0; row < chunk.size(); row++) {
+            for (int c = 0; c < columns; c++) {
+                if (c > 0) {
+                    put((byte) '\t');
+                }
+                switch (chunk.type(c)) {
+                    case INT:
+                        putInt(chunk.ints(c)[row]);
+                        break;
+                    case LONG:
+                        putLong(chunk.longs(c)[row]);
+                        break;
+                    case DOUBLE:
+                        // NaN, Infinity and -Infinity are also the float8 input syntax
+                        putDouble(chunk.doubles(c)[row]);
+                        break;
+                    default:
+                        putText(chunk.strings(c)[row]);
+                }
+            }
+            put((byte) '\n');
+        }
+    }
+
+    private void putText(String value) throws IOException {
+        if (value == null) {
+            putAscii("\\N");
+            return;
+        }
+        final char[] chars = chars(value);
+        final int length = value.length();
+        int from = 0;
+        while (from < length) {
+            from = putAsciiUntil(chars, from, length, ESCAPED);
+            if (from == length) {
+                break;
+            }
+            final char c = chars[from];
+            if (c == '\\') {
+                putAscii("\\\\");
+            } else if (c == '\t') {
+                putAscii("\\t");
+            } else if (c == '\n') {
+                putAscii("\\n");
+            } else if (c == '\r') {
+                putAscii("\\r");
+            } else {
+                from += putCodePoint(chars, from, length);
+                continue;
+            }
+            from++;
+        }
+    }
+
+    private void writeBinary(Chunk chunk, int columns) throws IOException {
+        for (int row = 0; row < chunk.size(); row++) {
+            putInt16(columns);
+            for (int c = 0; c < columns; c++) {
+                switch (chunk.type(c)) {
+                    case INT:
+                        putInt32(4);
+                        putInt32(chunk.ints(c)[row]);
+                        break;
+                    case LONG:
+                        putInt32(8);
+                        putInt64(chunk.longs(c)[row]);
+                        break;
+                    case DOUBLE:
+                        putInt32(8);
+                        putInt64(Double.doubleToLongBits(chunk.doubles(c)[row]));
+                        break;
+                    default:
+                        final String value = chunk.strings(c)[row];
+                        if (value == null) {
+                            putInt32(-1);
+                        } else {
+                            final char[] chars = chars(value);
+                            putInt32(utf8Length(chars, 0, value.length()));
+                            putUtf8(chars, 0, value.length());
+                        }
+                }
+            }
+        }
+    }
+
+    public static final class Builder {
+        private final String table;
+        private boolean binary;
+        private boolean statement;
+        private int flushSize = DEFAULT_FLUSH_SIZE;
+
+        private Builder(String table) {
+            this.table = table;
+        }
+
+        /**
+         * @param binary whether to write the binary format instead of the text format
+         */
+        public Builder binary(boolean binary) {
+            this.binary = binary;
+            return this;
+        }
+
+        /**
+         * @param statement whether to wrap the data of the text format in a {@code COPY} statement for {@code psql}
+         */
+        public Builder statement(boolean statement) {
+            this.statement = statement;
+            return this;
+        }
+
+        /**
+         * @param flushSize the number of bytes buffered before writing to the channel
+         */
+        public Builder flushSize(int flushSize) {
+            this.flushSize = flushSize;
+            return this;
+        }
+
+        public PostgresCopyWriter build(WritableByteChannel channel) throws IOException {
+            validate();
+            return new PostgresCopyWriter(channel, this);
+        }
+
+        public PostgresCopyWriter build(Path file) throws IOException {
+            validate();
+            return new PostgresCopyWriter(open(file), this);
+        }
+
+        private void validate() {
+            if (binary && statement) {
+                throw new IllegalArgumentException("The binary format can't be wrapped in a COPY statement");
+            }
+        }
+    }
+}
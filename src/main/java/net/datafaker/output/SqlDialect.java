@@ -0,0 +1,72 @@
+package net.datafaker.output;
+
+/**
+ * The SQL syntax of a database, as used by {@link SqlInsertWriter}.
+ */
+public enum SqlDialect {
+    ANSI('"', '"', false, "", 0, false),
+    POSTGRESQL('"', '"', false, "", 0, false),
+    /**
+     * MySQL and MariaDB, with backslash escapes in string literals enabled, as by default.
+     */
+    MYSQL('`', '`', true, "", 0, false),
+    /**
+     * Strings are written as national character literals; a {@code VALUES} list holds at most 1,000 rows.
+     */
+    SQL_SERVER('[', ']', false, "N", 1_000, false),
+    /**
+     * Rows are inserted with {@code INSERT ALL}, as {@code VALUES} lists of several rows need Oracle 23c.
+     */
+    ORACLE('"', '"', false, "", 0, true);
+
+    private final char identifierStart;
+    private final char identifierEnd;
+    private final boolean backslashEscapes;
+    private final String stringPrefix;
+    private final int maxRowsPerStatement;
+    private final boolean insertAll;
+
+    SqlDialect(char identifierStart, char identifierEnd, boolean backslashEscapes, String stringPrefix,
+               int maxRowsPerStatement, boolean insertAll) {
+        this.identifierStart = identifierStart;
+        this.identifierEnd = identifierEnd;
+        this.backslashEscapes = backslashEscapes;
+        this.stringPrefix = stringPrefix;
+        this.maxRowsPerStatement = maxRowsPerStatement;
+        this.insertAll = insertAll;
+    }
+
+    /**
+     * Quotes an identifier, doubling the closing quote character within it.
+     */
+    public String quoteIdentifier(String identifier) {
+        final StringBuilder sb = new StringBuilder(identifier.length() + 2).append(identifierStart);
+        for (int i = 0; i < identifier.length(); i++) {
+            final char c = identifier.charAt(i);
+            if (c == identifierEnd) {
+                sb.append(c);
+            }
+            sb.append(c);
+        }
+        return sb.append(identifierEnd).toString();
+    }
+
+    boolean hasBackslashEscapes() {
+        return backslashEscapes;
+    }
+
+    String getStringPrefix() {
+        return stringPrefix;
+    }
+
+    /**
+     * @return the maximum number of rows of a statement, 0 if unlimited
+     */
+    int getMaxRowsPerStatement() {
+        return maxRowsPerStatement;
+    }
+
+    boolean isInsertAll() {
+        return insertAll;
+    }
+}
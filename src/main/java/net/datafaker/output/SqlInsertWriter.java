@@ -0,0 +1,232 @@
+package net.datafaker.output;
+
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Column;
+import net.datafaker.schema.Schema;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Writes records as multi-row {@code INSERT} statements of a {@link SqlDialect}:
+ * <pre>
+ * INSERT INTO "people" ("name", "age") VALUES
+ * ('Ann', 42),
+ * ('O''Brien', 17);
+ * </pre>
+ * A statement holds at most {@code batchSize} rows, and statements may span chunks. String literals are quoted
+ * and escaped for the dialect. {@code NaN} and infinite doubles, which have no SQL literal, are written as
+ * {@code NULL}.
+ */
+public final class SqlInsertWriter extends ChunkWriter {
+    private final String table;
+    private final SqlDialect dialect;
+    private final int batchSize;
+    private final boolean quoteIdentifiers;
+    private final boolean[] escaped = new boolean[128];
+
+    private Schema schema;
+    private String statementStart;
+    private String rowStart;
+    private int rows;
+
+    private SqlInsertWriter(WritableByteChannel channel, Builder builder) throws IOException {
+        super(channel, builder.flushSize);
+        this.table = builder.table;
+        this.dialect = builder.dialect;
+        this.batchSize = builder.batchSize;
+        this.quoteIdentifiers = builder.quoteIdentifiers;
+        escaped['\''] = true;
+        escaped['\\'] = dialect.hasBackslashEscapes();
+        escaped[0] = dialect.hasBackslashEscapes();
+    }
+
+    /**
+     * @param table the name of the table, quoted as one identifier unless {@link Builder#quoteIdentifiers(boolean)}
+     *              is disabled
+     */
+    public static Builder builder(String table) {
+        return new Builder(table);
+    }
+
+    @Override
+    public void write(Chunk chunk) throws IOException {
+        if (chunk.getSchema() != schema) {
+            endStatement();
+            prepare(chunk.getSchema());
+        }
+        final int columns = chunk.getSchema().getColumns().size();
+        for (int row = 0; row < chunk.size(); row++) {
+            if (rows == 0) {
+                putUtf8(statementStart);
+            } else if (!dialect.isInsertAll()) {
+                putAscii(",\n");
+            }
+            putUtf8(rowStart);
+            for (int c = 0; c < columns; c++) {
+                if (c > 0) {
+                    putAscii(", ");
+                }
+                switch (chunk.type(c)) {
+                    case INT:
+                        putInt(chunk.ints(c)[row]);
+                        break;
+                    case LONG:
+                        putLong(chunk.longs(c)[row]);
+                        break;
+                    case DOUBLE:
+                        putNumber(chunk.doubles(c)[row]);
+                        break;
+                    default:
+                        putLiteral(chunk.strings(c)[row]);
+                }
+            }
+            put((byte) ')');
+            if (dialect.isInsertAll()) {
+                put((byte) '\n');
+            }
+            if (++rows == batchSize) {
+                endStatement();
+            }
+        }
+    }
+
+    @Override
+    protected void finish() throws IOException {
+        endStatement();
+    }
+
+    private void prepare(Schema schema) {
+        final StringBuilder columns = new StringBuilder(identifier(table)).append(" (");
+        final List<Column> list = schema.getColumns();
+        for (int c = 0; c < list.size(); c++) {
+            if (c > 0) {
+                columns.append(", ");
+            }
+            columns.append(identifier(list.get(c).getName()));
+        }
+        columns.append(") VALUES");
+        if (dialect.isInsertAll()) {
+            statementStart = "INSERT ALL\n";
+            rowStart = "INTO " + columns + " (";
+        } else {
+            statementStart = "INSERT INTO " + columns + "\n";
+            rowStart = "(";
+        }
+        this.schema = schema;
+    }
+
+    private String identifier(String name) {
+        return quoteIdentifiers ? dialect.quoteIdentifier(name) : name;
+    }
+
+    private void endStatement() throws IOException {
+        if (rows == 0) {
+            return;
+        }
+        putAscii(dialect.isInsertAll() ? "SELECT 1 FROM DUAL;\n" : ";\n");
+        rows = 0;
+    }
+
+    private void putNumber(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            putAscii("NULL");
+        } else {
+            putDouble(value);
+        }
+    }
+
+    private void putLiteral(String value) throws IOException {
+        if (value == null) {
+            putAscii("NULL");
+            return;
+        }
+        final char[] chars = chars(value);
+        final int length = value.length();
+        putAscii(dialect.getStringPrefix());
+        put((byte) '\'');
+        int from = 0;
+        while (from < length) {
+            from = putAsciiUntil(chars, from, length, escaped);
+            if (from == length) {
+                break;
+            }
+            final char c = chars[from];
+            if (c < escaped.length && escaped[c]) {
+                if (c == '\'') {
+                    putAscii("''");
+                } else {
+                    putAscii(c == 0 ? "\\0" : "\\\\");
+                }
+                from++;
+            } else {
+                from += putCodePoint(chars, from, length);
+            }
+        }
+        put((byte) '\'');
+    }
+
+    public static final class Builder {
+        private final String table;
+        private SqlDialect dialect = SqlDialect.ANSI;
+        private int batchSize = 1_000;
+        private boolean quoteIdentifiers = true;
+        private int flushSize = DEFAULT_FLUSH_SIZE;
+
+        private Builder(String table) {
+            this.table = table;
+        }
+
+        public Builder dialect(SqlDialect dialect) {
+            this.dialect = dialect;
+            return this;
+        }
+
+        /**
+         * @param batchSize the maximum number of rows of a statement, 1,000 by default
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * @param quoteIdentifiers whether to quote the names of the table and columns, e.g. to write a qualified
+         *                         table name as is
+         */
+        public Builder quoteIdentifiers(boolean quoteIdentifiers) {
+            this.quoteIdentifiers = quoteIdentifiers;
+            return this;
+        }
+
+        /**
+         * @param flushSize the number of bytes buffered before writing to the channel
+         */
+        public Builder flushSize(int flushSize) {
+            this.flushSize = flushSize;
+            return this;
+        }
+
+        public SqlInsertWriter build(WritableByteChannel channel) throws IOException {
+            validate();
+            return new SqlInsertWriter(channel, this);
+        }
+
+        public SqlInsertWriter build(Path file) throws IOException {
+            validate();
+            return new SqlInsertWriter(open(file), this);
+        }
+
+        private void validate() {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+            final int max = dialect.getMaxRowsPerStatement();
+            if (max > 0 && batchSize > max) {
+                throw new IllegalArgumentException(dialect + " allows at most " + max + " rows per statement");
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package net.datafaker.schema;
+
+import java.util.List;
+
+/**
+ * A batch of records of a {@link Schema}, stored by column: the values of column {@code c} are in the array
+ * returned by {@link #strings(int)}, {@link #ints(int)}, {@link #longs(int)} or {@link #doubles(int)}, depending
+ * on the {@link ColumnType} of the column. Only the first {@link #size()} elements of the arrays are records.
+ */
+public final class Chunk {
+    private final Schema schema;
+    private final Object[] arrays;
+    private final int capacity;
+    private int size;
+
+    Chunk(Schema schema, int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.schema = schema;
+        this.capacity = capacity;
+        final List<Column> columns = schema.getColumns();
+        this.arrays = new Object[columns.size()];
+        for (int c = 0; c < arrays.length; c++) {
+            arrays[c] = columns.get(c).newArray(capacity);
+        }
+    }
+
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * @return the number of records
+     */
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public ColumnType type(int column) {
+        return schema.getColumns().get(column).getType();
+    }
+
+    public String[] strings(int column) {
+        return (String[]) array(column, ColumnType.STRING);
+    }
+
+    public int[] ints(int column) {
+        return (int[]) array(column, ColumnType.INT);
+    }
+
+    public long[] longs(int column) {
+        return (long[]) array(column, ColumnType.LONG);
+    }
+
+    public double[] doubles(int column) {
+        return (double[]) array(column, ColumnType.DOUBLE);
+    }
+
+    /**
+     * @return the value of a column in a row, boxed for numeric columns
+     */
+    public Object value(int column, int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        switch (type(column)) {
+            case INT:
+                return ((int[]) arrays[column])[row];
+            case LONG:
+                return ((long[]) arrays[column])[row];
+            case DOUBLE:
+                return ((double[]) arrays[column])[row];
+            default:
+                return ((String[]) arrays[column])[row];
+        }
+    }
+
+    Object[] arrays() {
+        return arrays;
+    }
+
+    void setSize(int size) {
+        this.size = size;
+    }
+
+    private Object array(int column, ColumnType type) {
+        if (type(column) != type) {
+            throw new IllegalArgumentException("Column " + schema.getColumns().get(column) + " is not of type " + type);
+        }
+        return arrays[column];
+    }
+}
@@ -0,0 +1,88 @@
+package net.datafaker.schema;
+
+import net.datafaker.Faker;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A named column of a {@link Schema} and the function generating its values.
+ */
+public final class Column {
+    private final String name;
+    private final ColumnType type;
+    private final Object function;
+
+    private Column(String name, ColumnType type, Object function) {
+        if (name == null || function == null) {
+            throw new IllegalArgumentException("A column requires a name and a function");
+        }
+        this.name = name;
+        this.type = type;
+        this.function = function;
+    }
+
+    static Column ofString(String name, Function<Faker, String> function) {
+        return new Column(name, ColumnType.STRING, function);
+    }
+
+    static Column ofInt(String name, ToIntFunction<Faker> function) {
+        return new Column(name, ColumnType.INT, function);
+    }
+
+    static Column ofLong(String name, ToLongFunction<Faker> function) {
+        return new Column(name, ColumnType.LONG, function);
+    }
+
+    static Column ofDouble(String name, ToDoubleFunction<Faker> function) {
+        return new Column(name, ColumnType.DOUBLE, function);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ColumnType getType() {
+        return type;
+    }
+
+    Object newArray(int capacity) {
+        switch (type) {
+            case INT:
+                return new int[capacity];
+            case LONG:
+                return new long[capacity];
+            case DOUBLE:
+                return new double[capacity];
+            default:
+                return new String[capacity];
+        }
+    }
+
+    /**
+     * Generates the value of row {@code row} into the array of the column.
+     */
+    @SuppressWarnings("unchecked")
+    void generate(Object array, int row, Faker faker) {
+        switch (type) {
+            case INT:
+                ((int[]) array)[row] = ((ToIntFunction<Faker>) function).applyAsInt(faker);
+                break;
+            case LONG:
+                ((long[]) array)[row] = ((ToLongFunction<Faker>) function).applyAsLong(faker);
+                break;
+            case DOUBLE:
+                ((double[]) array)[row] = ((ToDoubleFunction<Faker>) function).applyAsDouble(faker);
+                break;
+            default:
+                ((String[]) array)[row] = ((Function<Faker, String>) function).apply(faker);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + type;
+    }
+}
@@ -0,0 +1,23 @@
+package net.datafaker.schema;
+
+/**
+ * The type of the values of a {@link Column}, which is also the type of its array in a {@link Chunk}.
+ */
+public enum ColumnType {
+    /**
+     * {@code String[]}
+     */
+    STRING,
+    /**
+     * {@code int[]}
+     */
+    INT,
+    /**
+     * {@code long[]}
+     */
+    LONG,
+    /**
+     * {@code double[]}
+     */
+    DOUBLE
+}
@@ -0,0 +1,162 @@
+package net.datafaker.schema;
+
+import net.datafaker.Faker;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * The columns of a record and how their values are generated:
+ * <pre>
+ * Schema schema = Schema.builder()
+ *     .column("first_name", "name.first_name")
+ *     .column("email", "#{Internet.emailAddress}")
+ *     .intColumn("age", f -&gt; f.number().numberBetween(18, 100))
+ *     .build();
+ * schema.generate(faker, 10_000_000, chunk -&gt; writer.write(chunk));
+ * </pre>
+ * Records are generated in {@link Chunk}s holding an array per column, of primitives for numeric columns, so
+ * writers can consume whole columns and no per row objects are created. A chunk is reused for the next rows
+ * once it has been consumed.
+ */
+public final class Schema {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private final List<Column> columns;
+
+    private Schema(List<Column> columns) {
+        this.columns = columns;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the index of the column with the given name, or -1
+     */
+    public int indexOf(String name) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).getName().equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public Chunk newChunk(int capacity) {
+        return new Chunk(this, capacity);
+    }
+
+    /**
+     * Replaces the rows of the chunk with {@code rows} new records. The values of a record are generated
+     * in the order of the columns, and the records in the order of the rows.
+     */
+    public void fill(Faker faker, Chunk chunk, int rows) {
+        if (chunk.getSchema() != this) {
+            throw new IllegalArgumentException("The chunk belongs to another schema");
+        }
+        if (rows < 0 || rows > chunk.capacity()) {
+            throw new IllegalArgumentException("Invalid number of rows " + rows + " for a capacity of " + chunk.capacity());
+        }
+        final Column[] columns = this.columns.toArray(new Column[0]);
+        final Object[] arrays = chunk.arrays();
+        for (int row = 0; row < rows; row++) {
+            for (int c = 0; c < columns.length; c++) {
+                columns[c].generate(arrays[c], row, faker);
+            }
+        }
+        chunk.setSize(rows);
+    }
+
+    /**
+     * Generates {@code rows} records in chunks of {@link #DEFAULT_CHUNK_SIZE} rows.
+     */
+    public void generate(Faker faker, long rows, Consumer<Chunk> consumer) {
+        generate(faker, rows, DEFAULT_CHUNK_SIZE, consumer);
+    }
+
+    /**
+     * Generates {@code rows} records in chunks of {@code chunkSize} rows, the last one possibly smaller. The
+     * same chunk is passed to the consumer every time, it must not be kept.
+     */
+    public void generate(Faker faker, long rows, int chunkSize, Consumer<Chunk> consumer) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("rows must not be negative");
+        }
+        final Chunk chunk = newChunk((int) Math.min(chunkSize, Math.max(rows, 1)));
+        for (long remaining = rows; remaining > 0; ) {
+            final int size = (int) Math.min(remaining, chunk.capacity());
+            fill(faker, chunk, size);
+            consumer.accept(chunk);
+            remaining -= size;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Schema" + columns;
+    }
+
+    public static final class Builder {
+        private final List<Column> columns = new ArrayList<>();
+        private final Set<String> names = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a column of strings resolved from an expression, see {@link Faker#expression(String)}. The
+         * expression may also be a key like {@code name.first_name} or a directive like
+         * {@code number.number_between '1','100'}, which are resolved as {@code #{name.first_name}} and
+         * {@code #{number.number_between '1','100'}}.
+         */
+        public Builder column(String name, String expression) {
+            final String template = expression.contains("#{") ? expression : "#{" + expression + "}";
+            return column(name, faker -> faker.expression(template));
+        }
+
+        public Builder column(String name, Function<Faker, String> function) {
+            return add(Column.ofString(name, function));
+        }
+
+        public Builder intColumn(String name, ToIntFunction<Faker> function) {
+            return add(Column.ofInt(name, function));
+        }
+
+        public Builder longColumn(String name, ToLongFunction<Faker> function) {
+            return add(Column.ofLong(name, function));
+        }
+
+        public Builder doubleColumn(String name, ToDoubleFunction<Faker> function) {
+            return add(Column.ofDouble(name, function));
+        }
+
+        private Builder add(Column column) {
+            if (!names.add(column.getName())) {
+                throw new IllegalArgumentException("Duplicate column " + column.getName());
+            }
+            columns.add(column);
+            return this;
+        }
+
+        public Schema build() {
+            if (columns.isEmpty()) {
+                throw new IllegalArgumentException("A schema requires at least one column");
+            }
+            return new Schema(Collections.unmodifiableList(new ArrayList<>(columns)));
+        }
+    }
+}
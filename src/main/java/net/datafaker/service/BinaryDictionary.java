@@ -0,0 +1,254 @@
+package net.datafaker.service;
+
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * Compact binary form of the YAML dictionaries, so they can be loaded without parsing YAML at runtime.
+ * <p>
+ * The build runs {@link #main(String[])} over the compiled resources, writing a {@code .bin} file next to
+ * every {@code .yml} file. {@link FakeValues} prefers the binary file and falls back to the YAML file,
+ * which is still used for files supplied by users.
+ * <p>
+ * The format is a header ({@link #MAGIC}, {@link #VERSION}), a table of all distinct strings and the
+ * document tree, in which strings are referenced by their index in the table. Strings are thereby shared
+ * between all the places they occur. Sizes and indexes are written as variable length ints.
+ * <p>
+ * This is an internal class of the build, not part of the API.
+ */
+final class BinaryDictionary {
+
+    static final String EXTENSION = ".bin";
+
+    private static final int MAGIC = 0x44464B44; // DFKD
+    private static final short VERSION = 1;
+
+    private static final Logger LOG = Logger.getLogger("faker");
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte MAP = 2;
+    private static final byte LIST = 3;
+    private static final byte TRUE = 4;
+    private static final byte FALSE = 5;
+    private static final byte INTEGER = 6;
+    private static final byte LONG = 7;
+    private static final byte DOUBLE = 8;
+
+    private BinaryDictionary() {
+    }
+
+    /**
+     * Compiles every {@code .yml} file in the given directories. Files containing values that can't be
+     * represented are skipped, they are loaded from YAML at runtime.
+     */
+    public static void main(String[] args) throws IOException {
+        for (String directory : args) {
+            compileDirectory(new File(directory));
+        }
+    }
+
+    private static void compileDirectory(File directory) throws IOException {
+        final File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            if (file.isDirectory()) {
+                compileDirectory(file);
+            } else if (file.getName().endsWith(".yml")) {
+                compileFile(file);
+            }
+        }
+    }
+
+    private static void compileFile(File yamlFile) throws IOException {
+        final Object document;
+        try (InputStream in = new FileInputStream(yamlFile)) {
+            document = new Yaml().load(in);
+        }
+        final File binaryFile = new File(yamlFile.getParentFile(), binaryName(yamlFile.getName()));
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(binaryFile))) {
+            write(document, out);
+        } catch (IllegalArgumentException e) {
+            LOG.warning("Not compiling " + yamlFile + ": " + e.getMessage());
+            if (!binaryFile.delete()) {
+                throw new IOException("Unable to delete " + binaryFile);
+            }
+        }
+    }
+
+    /**
+     * @return the name of the binary file of a YAML file, e.g. {@code address.bin} for {@code address.yml}
+     */
+    static String binaryName(String yamlName) {
+        return yamlName.endsWith(".yml")
+                ? yamlName.substring(0, yamlName.length() - ".yml".length()) + EXTENSION
+                : yamlName + EXTENSION;
+    }
+
+    /**
+     * Writes a document made of maps, lists, strings, booleans and numbers.
+     *
+     * @throws IllegalArgumentException if the document contains any other type
+     */
+    static void write(Object document, OutputStream out) throws IOException {
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        final ByteArrayOutputStream tree = new ByteArrayOutputStream();
+        writeNode(document, new DataOutputStream(tree), strings);
+
+        final DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        writeVarInt(data, strings.size());
+        for (String string : strings.keySet()) {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(data, bytes.length);
+            data.write(bytes);
+        }
+        tree.writeTo(data);
+        data.flush();
+    }
+
+    private static void writeNode(Object node, DataOutputStream out, Map<String, Integer> strings) throws IOException {
+        if (node == null) {
+            out.writeByte(NULL);
+        } else if (node instanceof String) {
+            Integer index = strings.get(node);
+            if (index == null) {
+                index = strings.size();
+                strings.put((String) node, index);
+            }
+            out.writeByte(STRING);
+            writeVarInt(out, index);
+        } else if (node instanceof Map) {
+            final Map<?, ?> map = (Map<?, ?>) node;
+            out.writeByte(MAP);
+            writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeNode(entry.getKey(), out, strings);
+                writeNode(entry.getValue(), out, strings);
+            }
+        } else if (node instanceof List) {
+            final List<?> list = (List<?>) node;
+            out.writeByte(LIST);
+            writeVarInt(out, list.size());
+            for (Object item : list) {
+                writeNode(item, out, strings);
+            }
+        } else if (node instanceof Boolean) {
+            out.writeByte((Boolean) node ? TRUE : FALSE);
+        } else if (node instanceof Integer) {
+            out.writeByte(INTEGER);
+            out.writeInt((Integer) node);
+        } else if (node instanceof Long) {
+            out.writeByte(LONG);
+            out.writeLong((Long) node);
+        } else if (node instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) node);
+        } else {
+            throw new IllegalArgumentException("unsupported value type " + node.getClass().getName());
+        }
+    }
+
+    /**
+     * Reads a document written by {@link #write(Object, OutputStream)}. Maps and lists are unmodifiable.
+     */
+    static Object read(InputStream in) throws IOException {
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(in, 1 << 16));
+        if (data.readInt() != MAGIC || data.readShort() != VERSION) {
+            throw new IOException("Not a dictionary of version " + VERSION);
+        }
+        final String[] strings = new String[readVarInt(data)];
+        byte[] buffer = new byte[256];
+        for (int i = 0; i < strings.length; i++) {
+            final int length = readVarInt(data);
+            if (buffer.length < length) {
+                buffer = new byte[Math.max(length, buffer.length * 2)];
+            }
+            data.readFully(buffer, 0, length);
+            strings[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+        return readNode(data, strings);
+    }
+
+    private static Object readNode(DataInputStream in, String[] strings) throws IOException {
+        final byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return strings[readVarInt(in)];
+            case MAP: {
+                final int size = readVarInt(in);
+                final Map<Object, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+                for (int i = 0; i < size; i++) {
+                    final Object key = readNode(in, strings);
+                    map.put(key, readNode(in, strings));
+                }
+                return Collections.unmodifiableMap(map);
+            }
+            case LIST: {
+                final int size = readVarInt(in);
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readNode(in, strings));
+                }
+                return Collections.unmodifiableList(list);
+            }
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case INTEGER:
+                return in.readInt();
+            case LONG:
+                return in.readLong();
+            case DOUBLE:
+                return in.readDouble();
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    /**
+     * Writes a non negative int in 7 bit groups, least significant first, so small values take a single byte.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            final byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+}
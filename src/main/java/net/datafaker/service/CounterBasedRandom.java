@@ -0,0 +1,42 @@
+package net.datafaker.service;
+
+/**
+ * A counter-based generator: the n-th value of stream {@code index} of a seed is a hash of the key derived from
+ * (seed, index) and n, in the style of Philox and Threefry. Any stream can be positioned in constant time with
+ * {@link #reset(long, long)}, so record 5,000,000,000 of a data set is generated without generating the
+ * records before it.
+ * <p>
+ * The hash is the SplitMix64 finalizer, over a key derived by {@link RandomGenerators#derivedSeed(long, long)}.
+ * {@link #setSeed(long)} resets to stream 0 of the seed. The generator is not thread safe.
+ */
+public class CounterBasedRandom extends RandomGenerators.LongRandom {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long key;
+    private long counter;
+
+    /**
+     * Positioned at the start of the stream {@code index} of the seed.
+     */
+    public CounterBasedRandom(long seed, long index) {
+        reset(seed, index);
+    }
+
+    /**
+     * Positions the generator at the start of the stream {@code index} of the seed.
+     */
+    public void reset(long seed, long index) {
+        this.key = RandomGenerators.derivedSeed(seed, index);
+        this.counter = 0;
+    }
+
+    @Override
+    public void setSeed(long seed) {
+        reset(seed, 0);
+    }
+
+    @Override
+    public long nextLong() {
+        return RandomGenerators.splitMix64(key + ++counter * GOLDEN_GAMMA);
+    }
+}
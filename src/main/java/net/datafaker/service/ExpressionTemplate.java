@@ -0,0 +1,122 @@
+package net.datafaker.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An expression such as {@code "#{first_name} #{last_name}"} compiled into an immutable list of literal
+ * and directive segments.
+ * <p>
+ * Templates are parsed once and cached, so resolving the same YAML value again only walks the segments
+ * instead of re-running the expression regular expressions over the text.
+ */
+final class ExpressionTemplate {
+
+    private static final Pattern EXPRESSION_PATTERN = Pattern.compile("#\\{([a-z0-9A-Z_.]+)\\s?((?:,?'([^']+)')*)}");
+    private static final Pattern EXPRESSION_ARGUMENTS_PATTERN = Pattern.compile("'(.*?)'");
+
+    /**
+     * Upper bound of cached templates. Expressions passed in by users are not necessarily a closed set,
+     * so once the limit is reached new templates are compiled but no longer cached.
+     */
+    private static final int MAX_CACHED_TEMPLATES = 10_000;
+    private static final Map<String, ExpressionTemplate> CACHE = new ConcurrentHashMap<>();
+
+    private final List<Segment> segments;
+
+    private ExpressionTemplate(List<Segment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * @return true if the given string contains something that may be a directive, i.e. {@code #{}.
+     * Strings without directives never need to be compiled.
+     */
+    static boolean hasDirectives(String expression) {
+        return expression.contains("#{");
+    }
+
+    /**
+     * Returns the compiled form of the expression, from the cache when possible.
+     */
+    static ExpressionTemplate compile(String expression) {
+        ExpressionTemplate template = CACHE.get(expression);
+        if (template == null) {
+            template = parse(expression);
+            if (CACHE.size() < MAX_CACHED_TEMPLATES) {
+                CACHE.putIfAbsent(expression, template);
+            }
+        }
+        return template;
+    }
+
+    private static ExpressionTemplate parse(String expression) {
+        final List<Segment> segments = new ArrayList<>();
+        final Matcher matcher = EXPRESSION_PATTERN.matcher(expression);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                segments.add(new Segment(expression.substring(last, matcher.start())));
+            }
+            final Matcher argsMatcher = EXPRESSION_ARGUMENTS_PATTERN.matcher(matcher.group(2));
+            final List<String> args = new ArrayList<>();
+            while (argsMatcher.find()) {
+                args.add(argsMatcher.group(1));
+            }
+            segments.add(new Segment(matcher.group(0), matcher.group(1),
+                    args.isEmpty() ? Collections.<String>emptyList() : Collections.unmodifiableList(args)));
+            last = matcher.end();
+        }
+        if (last < expression.length()) {
+            segments.add(new Segment(expression.substring(last)));
+        }
+        return new ExpressionTemplate(Collections.unmodifiableList(segments));
+    }
+
+    List<Segment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * Either a piece of literal text or a directive like {@code #{number_between '1','10'}}.
+     */
+    static final class Segment {
+        private final String text;
+        private final String directive;
+        private final List<String> args;
+
+        private Segment(String literal) {
+            this(literal, null, Collections.<String>emptyList());
+        }
+
+        private Segment(String text, String directive, List<String> args) {
+            this.text = text;
+            this.directive = directive;
+            this.args = args;
+        }
+
+        boolean isDirective() {
+            return directive != null;
+        }
+
+        /**
+         * @return the literal text, or for a directive the original text such as {@code #{Name.first_name}}
+         */
+        String getText() {
+            return text;
+        }
+
+        String getDirective() {
+            return directive;
+        }
+
+        List<String> getArgs() {
+            return args;
+        }
+    }
+}
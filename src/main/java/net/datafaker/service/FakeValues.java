@@ -2,8 +2,11 @@ package net.datafaker.service;
 
 import org.yaml.snakeyaml.Yaml;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
@@ -13,7 +16,7 @@ public class FakeValues implements FakeValuesInterface {
     private final Locale locale;
     private final String filename;
     private final String path;
-    private Map<String, Object> values;
+    private volatile Map<String, Object> values;
 
     FakeValues(Locale locale) {
         this(locale, getFilename(locale), getFilename(locale));
@@ -46,53 +49,126 @@ public class FakeValues implements FakeValuesInterface {
 
     @Override
     public Map<String, Object> get(String key) {
+        Map<String, Object> values = this.values;
         if (values == null) {
+            // dictionaries are immutable, so a race only loads the same values twice
             values = loadValues();
+            this.values = values;
         }
 
         return values == null ? null : (Map) values.get(key);
     }
 
+    /**
+     * Dictionaries are shared between instances through the {@link FakeValuesRegistry}, so each file is only
+     * parsed once per process.
+     */
     private Map<String, Object> loadValues() {
+        return FakeValuesRegistry.get(locale.getLanguage() + "/" + filename, this::readValues);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readValues() {
         String pathWithLocaleAndFilename = "/" + locale.getLanguage() + "/" + this.filename;
         String pathWithFilename = "/" + filename + ".yml";
         String pathWithLocale = "/" + locale.getLanguage() + ".yml";
 
         List<String> paths = Arrays.asList(pathWithLocaleAndFilename, pathWithFilename, pathWithLocale);
-        InputStream stream = null;
+        Map<String, Object> valuesMap = null;
+        boolean immutable = false;
         for (String path : paths) {
-            stream = findStream(path);
-            if (stream != null) {
+            final URL yaml = findResource(path);
+            if (yaml == null) {
+                continue;
+            }
+            final URL binary = findResource(BinaryDictionary.binaryName(path));
+            if (binary != null && isCompiledFrom(binary, yaml, path)) {
+                valuesMap = readBinary(binary);
+                if (valuesMap != null) {
+                    immutable = true;
+                    break;
+                }
+            }
+            valuesMap = readYaml(yaml);
+            if (valuesMap != null) {
                 break;
             }
         }
 
-        if (stream == null) {
+        if (valuesMap == null) {
             return null;
         }
 
-        final Map<String, Object> valuesMap = new Yaml().loadAs(stream, Map.class);
         Map<String, Object> localeBased = (Map<String, Object>) valuesMap.get(locale.getLanguage());
         if (localeBased == null) {
             localeBased = (Map<String, Object>) valuesMap.get(filename);
         }
+        final Map<String, Object> values = (Map<String, Object>) localeBased.get("faker");
+        return immutable ? values : (Map<String, Object>) FakeValuesRegistry.immutable(values);
+    }
+
+    /**
+     * Whether a {@link BinaryDictionary} can stand for a YAML file: it must come from the same classpath root, so
+     * a YAML file overriding a dictionary of the jar is read, and must not be older, so an edited YAML file isn't
+     * shadowed by a stale binary.
+     */
+    static boolean isCompiledFrom(URL binary, URL yaml, String yamlPath) {
+        final String yamlUrl = yaml.toExternalForm();
+        final String binaryUrl = binary.toExternalForm();
+        final String binaryPath = BinaryDictionary.binaryName(yamlPath);
+        if (!yamlUrl.endsWith(yamlPath) || !binaryUrl.endsWith(binaryPath)) {
+            return false;
+        }
+        final String yamlRoot = yamlUrl.substring(0, yamlUrl.length() - yamlPath.length());
+        final String binaryRoot = binaryUrl.substring(0, binaryUrl.length() - binaryPath.length());
+        if (!yamlRoot.equals(binaryRoot)) {
+            return false;
+        }
+        // the files of a jar are packaged by the build, which compiled them together
+        if (!"file".equals(yaml.getProtocol())) {
+            return true;
+        }
         try {
-            stream.close();
+            return new File(binary.toURI()).lastModified() >= new File(yaml.toURI()).lastModified();
+        } catch (URISyntaxException | IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads the precompiled {@link BinaryDictionary} of a YAML file.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readBinary(URL url) {
+        try (InputStream in = url.openStream()) {
+            return (Map<String, Object>) BinaryDictionary.read(in);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readYaml(URL url) {
+        try (InputStream in = url.openStream()) {
+            return new Yaml().loadAs(in, Map.class);
         } catch (IOException ex) {
             return null;
         }
-        return (Map<String, Object>) localeBased.get("faker");
     }
 
-    private InputStream findStream(String filename) {
-        InputStream streamOnClass = getClass().getResourceAsStream(filename);
-        if (streamOnClass != null) {
-            return streamOnClass;
+    private URL findResource(String filename) {
+        final URL onClass = getClass().getResource(filename);
+        if (onClass != null) {
+            return onClass;
         }
-        return getClass().getClassLoader().getResourceAsStream(filename);
+        return getClass().getClassLoader().getResource(filename);
     }
 
     boolean supportsPath(String path) {
         return this.path.equals(path);
     }
+
+    String getPath() {
+        return path;
+    }
 }
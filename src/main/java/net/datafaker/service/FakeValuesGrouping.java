@@ -1,31 +1,70 @@
 package net.datafaker.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Groups the {@link FakeValues} of several files, e.g. the English files where each provider has its own file.
+ * <p>
+ * Files are indexed by the top level key they provide, so a lookup only touches the files supporting that key,
+ * and as {@link FakeValues} loads lazily a file is only parsed once one of its keys is requested.
+ */
 public class FakeValuesGrouping implements FakeValuesInterface {
 
-    private final List<FakeValues> fakeValuesList = new ArrayList<>();
+    private final Map<String, List<FakeValues>> fakeValuesByPath = new HashMap<>();
+
+    /**
+     * Merged values of keys supported by more than one file, e.g. 'creature' for the animal, cat and dog files.
+     */
+    private final Map<String, Map<String, Object>> mergedValues = new ConcurrentHashMap<>();
 
     public void add(FakeValues fakeValues) {
-        fakeValuesList.add(fakeValues);
+        List<FakeValues> files = fakeValuesByPath.get(fakeValues.getPath());
+        if (files == null) {
+            files = new ArrayList<>(1);
+            fakeValuesByPath.put(fakeValues.getPath(), files);
+        }
+        files.add(fakeValues);
+        mergedValues.remove(fakeValues.getPath());
     }
 
     @Override
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public Map get(String key) {
-        Map result = null;
-        for (FakeValues fakeValues : fakeValuesList) {
-            if (fakeValues.supportsPath(key)) {
-                if (result != null) {
-                    final Map newResult = fakeValues.get(key);
-                    result.putAll(newResult);
+    public Map<String, Object> get(String key) {
+        final List<FakeValues> files = fakeValuesByPath.get(key);
+        if (files == null) {
+            return null;
+        }
+        if (files.size() == 1) {
+            return files.get(0).get(key);
+        }
+
+        Map<String, Object> result = mergedValues.get(key);
+        if (result == null) {
+            result = merge(files, key);
+            if (result != null) {
+                mergedValues.putIfAbsent(key, result);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Object> merge(List<FakeValues> files, String key) {
+        Map<String, Object> result = null;
+        for (FakeValues fakeValues : files) {
+            final Map<String, Object> values = fakeValues.get(key);
+            if (values != null) {
+                if (result == null) {
+                    result = new LinkedHashMap<>(values);
                 } else {
-                    result = fakeValues.get(key);
+                    result.putAll(values);
                 }
             }
         }
-        return result;
+        return result == null ? null : Collections.unmodifiableMap(result);
     }
 }
@@ -0,0 +1,70 @@
+package net.datafaker.service;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Process wide cache of loaded dictionaries, shared by all {@link FakeValues} and so by all
+ * {@link net.datafaker.Faker} instances.
+ * <p>
+ * The cached values are deeply immutable. They are held by soft references, so dictionaries no
+ * {@link FakeValues} refers to anymore can be reclaimed under memory pressure and are loaded again when needed.
+ */
+final class FakeValuesRegistry {
+
+    /**
+     * Marks a dictionary that couldn't be loaded, so the lookup isn't repeated.
+     */
+    private static final Map<String, Object> NOT_FOUND = Collections.emptyMap();
+
+    private static final Map<String, SoftReference<Map<String, Object>>> VALUES = new ConcurrentHashMap<>();
+
+    private FakeValuesRegistry() {
+    }
+
+    /**
+     * @param key    identifies the dictionary, e.g. its language and file name
+     * @param loader loads the dictionary if it isn't cached, returning null if there is none. The loaded
+     *               dictionary must be deeply immutable, see {@link #immutable(Object)}.
+     * @return the cached dictionary, or null if it couldn't be loaded
+     */
+    static Map<String, Object> get(String key, Supplier<Map<String, Object>> loader) {
+        final SoftReference<Map<String, Object>> reference = VALUES.get(key);
+        Map<String, Object> values = reference == null ? null : reference.get();
+        if (values == null) {
+            final Map<String, Object> loaded = loader.get();
+            values = loaded == null ? NOT_FOUND : loaded;
+            VALUES.put(key, new SoftReference<>(values));
+        }
+        return values == NOT_FOUND ? null : values;
+    }
+
+    /**
+     * @return a deep copy of the value in which all maps and lists are unmodifiable
+     */
+    @SuppressWarnings("unchecked")
+    static Object immutable(Object value) {
+        if (value instanceof Map) {
+            final Map<Object, Object> map = (Map<Object, Object>) value;
+            final Map<Object, Object> copy = new LinkedHashMap<>(map.size() * 4 / 3 + 1);
+            for (Map.Entry<Object, Object> entry : map.entrySet()) {
+                copy.put(entry.getKey(), immutable(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(copy);
+        } else if (value instanceof List) {
+            final List<Object> list = (List<Object>) value;
+            final List<Object> copy = new ArrayList<>(list.size());
+            for (Object item : list) {
+                copy.add(immutable(item));
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return value;
+    }
+}
@@ -1,33 +1,37 @@
 package net.datafaker.service;
 
-import com.mifmif.common.regex.Generex;
 import net.datafaker.Faker;
 import net.datafaker.service.files.EnFile;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class FakeValuesService {
 
-    private static final Pattern EXPRESSION_PATTERN = Pattern.compile("#\\{([a-z0-9A-Z_.]+)\\s?((?:,?'([^']+)')*)}");
-    private static final Pattern EXPRESSION_ARGUMENTS_PATTERN = Pattern.compile("'(.*?)'");
     private static final Pattern LOCALE = Pattern.compile("[-_]");
     private static final Pattern DOT = Pattern.compile("\\.");
     private static final Pattern A_TO_Z = Pattern.compile("([A-Z])");
     private static final Pattern UNDERSCORE = Pattern.compile("_");
 
+    private static final Object NOT_FOUND = new Object();
+    private static final int MAX_CACHED_KEYS = 10_000;
+    private static final Map<String, String[]> FAKER_OBJECT_AND_METHOD = new ConcurrentHashMap<>();
+
     private final Logger log = Logger.getLogger("faker");
 
     private final List<FakeValuesInterface> fakeValuesList;
@@ -35,6 +39,11 @@ public class FakeValuesService {
 
     private final List<Locale> localesChain;
 
+    /**
+     * Values by key as returned by {@link #fetchObject(String)}, {@link #NOT_FOUND} for missing keys.
+     */
+    private final Map<String, Object> fetchedObjects;
+
     /**
      * Resolves YAML file using the most specific path first based on language and country code.
      * 'en_US' would resolve in the following order:
@@ -76,6 +85,26 @@ public class FakeValuesService {
         }
 
         this.fakeValuesList = Collections.unmodifiableList(all);
+        this.fetchedObjects = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Shares the dictionaries, locales and cached lookups of another service, with another random.
+     */
+    protected FakeValuesService(RandomService randomService, FakeValuesService other) {
+        this.randomService = randomService;
+        this.localesChain = other.localesChain;
+        this.fakeValuesList = other.fakeValuesList;
+        this.fetchedObjects = other.fetchedObjects;
+    }
+
+    /**
+     * Returns a service resolving the same values with another random, e.g. for the fakers of records of
+     * {@link net.datafaker.Faker#at(long)}. Subclasses which change how values are resolved should override it
+     * to return an instance of their class.
+     */
+    public FakeValuesService withRandomService(RandomService randomService) {
+        return new FakeValuesService(randomService, this);
     }
 
     /**
@@ -125,8 +154,9 @@ public class FakeValuesService {
      */
     public Object fetch(String key) {
         List<?> valuesArray = new ArrayList<>();
-        if (fetchObject(key) instanceof ArrayList)
-            valuesArray = (ArrayList<?>) fetchObject(key);
+        final Object values = fetchObject(key);
+        if (values instanceof List)
+            valuesArray = (List<?>) values;
         return valuesArray == null ? null : valuesArray.get(randomService.nextInt(valuesArray.size()));
     }
 
@@ -172,11 +202,25 @@ public class FakeValuesService {
 
     /**
      * Return the object selected by the key from yaml file.
+     * <p>
+     * Results, including missing keys, are cached per key, so walking the path through the locales chain
+     * is only done once per key.
      *
      * @param key key contains path to an object. Path segment is separated by
      *            dot. E.g. name.first_name
      */
     public Object fetchObject(String key) {
+        Object result = fetchedObjects.get(key);
+        if (result == null) {
+            result = lookupObject(key);
+            if (fetchedObjects.size() < MAX_CACHED_KEYS) {
+                fetchedObjects.put(key, result == null ? NOT_FOUND : result);
+            }
+        }
+        return result == NOT_FOUND ? null : result;
+    }
+
+    private Object lookupObject(String key) {
         String[] path = DOT.split(key);
 
         Object result = null;
@@ -236,9 +280,7 @@ public class FakeValuesService {
      * Generates a String that matches the given regular expression.
      */
     public String regexify(String regex) {
-        Generex generex = new Generex(regex);
-        generex.setSeed(randomService.nextLong());
-        return generex.random();
+        return RegexAutomaton.compile(regex).random(randomService);
     }
 
     /**
@@ -323,6 +365,26 @@ public class FakeValuesService {
         return resolveExpression(expression, null, faker);
     }
 
+    /**
+     * resolves an expression {@code count} times using the current faker. The expression is compiled once and
+     * the buffer is shared between the results.
+     */
+    public List<String> expressions(String expression, int count, Faker faker) {
+        final List<String> results = new ArrayList<>(count);
+        if (!ExpressionTemplate.hasDirectives(expression)) {
+            results.addAll(Collections.nCopies(count, expression));
+            return results;
+        }
+        final ExpressionTemplate template = ExpressionTemplate.compile(expression);
+        final StringBuilder result = new StringBuilder(expression.length() + 16);
+        for (int i = 0; i < count; i++) {
+            result.setLength(0);
+            resolveTemplate(result, template, null, faker);
+            results.add(result.toString());
+        }
+        return results;
+    }
+
     /**
      * processes a expression in the style #{X.y} using the current objects as the 'current' location
      * within the yml file (or the {@link Faker} object hierarchy as it were).
@@ -335,29 +397,61 @@ public class FakeValuesService {
      * {@link Faker#address()}'s {@link net.datafaker.Address#streetName()}.
      */
     protected String resolveExpression(String expression, Object current, Faker root) {
-        final Matcher matcher = EXPRESSION_PATTERN.matcher(expression);
-
-        String result = expression;
-        while (matcher.find()) {
-            final String escapedDirective = matcher.group(0);
-            final String directive = matcher.group(1);
-            final String arguments = matcher.group(2);
-            final Matcher argsMatcher = EXPRESSION_ARGUMENTS_PATTERN.matcher(arguments);
-            List<String> args = new ArrayList<>();
-            while (argsMatcher.find()) {
-                args.add(argsMatcher.group(1));
+        if (!ExpressionTemplate.hasDirectives(expression)) {
+            return expression;
+        }
+        final StringBuilder result = new StringBuilder(expression.length() + 16);
+        resolveExpression(result, expression, current, root);
+        return result.toString();
+    }
+
+    /**
+     * Appends the resolved form of {@code expression} to {@code result}. The expression is compiled into an
+     * {@link ExpressionTemplate} once, so repeated resolutions of the same YAML value only walk its segments.
+     */
+    private void resolveExpression(StringBuilder result, String expression, Object current, Faker root) {
+        if (!ExpressionTemplate.hasDirectives(expression)) {
+            result.append(expression);
+            return;
+        }
+        resolveTemplate(result, ExpressionTemplate.compile(expression), current, root);
+    }
+
+    private void resolveTemplate(StringBuilder result, ExpressionTemplate template, Object current, Faker root) {
+        for (ExpressionTemplate.Segment segment : template.getSegments()) {
+            if (!segment.isDirective()) {
+                result.append(segment.getText());
+                continue;
             }
 
             // resolve the expression and reprocess it to handle recursive templates
-            String resolved = resolveExpression(directive, args, current, root);
+            final String resolved = resolveExpression(segment.getDirective(), segment.getArgs(), current, root);
             if (resolved == null) {
-                throw new RuntimeException("Unable to resolve " + escapedDirective + " directive.");
+                throw new RuntimeException("Unable to resolve " + segment.getText() + " directive.");
             }
 
-            resolved = resolveExpression(resolved, current, root);
-            result = result.replaceFirst(Pattern.quote(escapedDirective), Matcher.quoteReplacement(resolved));
+            // a top level key like #{name.first_name} may resolve to directives relative to its provider
+            final Object scope = current == null && isDotDirective(segment.getDirective()) && ExpressionTemplate.hasDirectives(resolved)
+                    ? provider(root, segment.getDirective())
+                    : current;
+            resolveExpression(result, resolved, scope, root);
+        }
+    }
+
+    /**
+     * @return the provider of the faker named like the first part of a dot directive, e.g. {@link Faker#name()}
+     * for {@code name.first_name}, or null
+     */
+    private Object provider(Faker root, String directive) {
+        final MethodAndCoercedArgs accessor = accessor(root, fakerObjectAndMethod(directive)[0], Collections.emptyList());
+        if (accessor == null) {
+            return null;
+        }
+        try {
+            return accessor.invoke(root);
+        } catch (InvocationTargetException e) {
+            return null;
         }
-        return result;
     }
 
     /**
@@ -469,7 +563,9 @@ public class FakeValuesService {
                     ? null
                     : string(accessor.invoke(obj));
         } catch (Exception e) {
-            log.log(Level.FINE, "Can't call " + directive + " on " + obj, e);
+            if (log.isLoggable(Level.FINE)) {
+                log.log(Level.FINE, "Can't call " + directive + " on " + obj, e);
+            }
             return null;
         }
     }
@@ -481,18 +577,20 @@ public class FakeValuesService {
      * @throws RuntimeException if there's a problem invoking the method or it doesn't exist.
      */
     private String resolveFakerObjectAndMethod(Faker faker, String key, List<String> args) {
-        final String[] classAndMethod = DOT.split(key, 2);
+        final String[] classAndMethod = fakerObjectAndMethod(key);
 
         try {
-            String fakerMethodName = UNDERSCORE.matcher(classAndMethod[0]).replaceAll("");
+            String fakerMethodName = classAndMethod[0];
             MethodAndCoercedArgs fakerAccessor = accessor(faker, fakerMethodName, Collections.emptyList());
             if (fakerAccessor == null) {
-                log.fine("Can't find top level faker object named " + fakerMethodName + ".");
+                if (log.isLoggable(Level.FINE)) {
+                    log.fine("Can't find top level faker object named " + fakerMethodName + ".");
+                }
                 return null;
             }
             Object objectWithMethodToInvoke = fakerAccessor.invoke(faker);
-            String nestedMethodName = UNDERSCORE.matcher(classAndMethod[1]).replaceAll("");
-            final MethodAndCoercedArgs accessor = accessor(objectWithMethodToInvoke, UNDERSCORE.matcher(classAndMethod[1]).replaceAll(""), args);
+            String nestedMethodName = classAndMethod[1];
+            final MethodAndCoercedArgs accessor = accessor(objectWithMethodToInvoke, nestedMethodName, args);
             if (accessor == null) {
                 throw new Exception("Can't find method on "
                         + objectWithMethodToInvoke.getClass().getSimpleName()
@@ -506,29 +604,87 @@ public class FakeValuesService {
         }
     }
 
+    /**
+     * Splits a directive like {@code Name.first_name} into the names of the faker object and its method
+     * without underscores, {@code Name} and {@code firstname}, once per directive.
+     */
+    private static String[] fakerObjectAndMethod(String directive) {
+        String[] classAndMethod = FAKER_OBJECT_AND_METHOD.get(directive);
+        if (classAndMethod == null) {
+            classAndMethod = DOT.split(directive, 2);
+            classAndMethod[0] = UNDERSCORE.matcher(classAndMethod[0]).replaceAll("");
+            classAndMethod[1] = UNDERSCORE.matcher(classAndMethod[1]).replaceAll("");
+            if (FAKER_OBJECT_AND_METHOD.size() < MAX_CACHED_KEYS) {
+                FAKER_OBJECT_AND_METHOD.putIfAbsent(directive, classAndMethod);
+            }
+        }
+        return classAndMethod;
+    }
 
     /**
      * Find an accessor by name ignoring case.
+     * <p>
+     * Lookups are cached per class, name and arguments, including failed ones, so a directive like
+     * {@code #{Name.first_name}} only scans {@link Class#getMethods()} and coerces its arguments once. At most
+     * {@link #MAX_CACHED_KEYS} lookups are cached per class, as arguments may differ in every expression.
      */
     private MethodAndCoercedArgs accessor(Object onObject, String name, List<String> args) {
-        log.log(Level.FINE, "Find accessor named " + name + " on " + onObject.getClass().getSimpleName() + " with args " + args);
+        final Map<AccessorKey, MethodAndCoercedArgs> accessors = ACCESSOR_CACHE.get(onObject.getClass());
+        final AccessorKey key = new AccessorKey(name, args);
+        MethodAndCoercedArgs accessor = accessors.get(key);
+        if (accessor == null) {
+            accessor = findAccessor(onObject.getClass(), name, args);
+            if (accessors.size() < MAX_CACHED_KEYS) {
+                accessors.putIfAbsent(key, accessor == null ? MethodAndCoercedArgs.NOT_FOUND : accessor);
+            }
+        }
+        return accessor == MethodAndCoercedArgs.NOT_FOUND ? null : accessor;
+    }
 
-        for (Method m : onObject.getClass().getMethods()) {
+    private MethodAndCoercedArgs findAccessor(Class<?> onClass, String name, List<String> args) {
+        if (log.isLoggable(Level.FINE)) {
+            log.fine("Find accessor named " + name + " on " + onClass.getSimpleName() + " with args " + args);
+        }
+
+        for (Method m : onClass.getMethods()) {
             if (m.getName().equalsIgnoreCase(name)
                     && (m.getParameterTypes().length == args.size() || m.getParameterTypes().length < args.size() && m.isVarArgs())) {
                 final List<Object> coercedArguments = coerceArguments(m, args);
                 if (coercedArguments != null) {
-                    return new MethodAndCoercedArgs(m, coercedArguments);
+                    final MethodHandle handle = methodHandle(m);
+                    if (handle != null) {
+                        return new MethodAndCoercedArgs(handle, coercedArguments);
+                    }
                 }
             }
         }
 
         if (name.contains("_")) {
-            return accessor(onObject, UNDERSCORE.matcher(name).replaceAll(""), args);
+            return findAccessor(onClass, UNDERSCORE.matcher(name).replaceAll(""), args);
         }
         return null;
     }
 
+    /**
+     * @return a handle taking the target and an array of arguments and returning the (boxed) result,
+     * or null if the method is not accessible. The target is ignored by static methods.
+     */
+    private MethodHandle methodHandle(Method method) {
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+            handle = handle.asType(handle.type().generic());
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asSpreader(Object[].class, method.getParameterTypes().length);
+        } catch (IllegalAccessException e) {
+            if (log.isLoggable(Level.FINE)) {
+                log.fine("Unable to access " + method + ": " + e.getMessage());
+            }
+            return null;
+        }
+    }
+
     /**
      * Coerce arguments in <em>args</em> into the appropriate types (if possible) for the parameter arguments
      * to <em>accessor</em>.
@@ -577,6 +733,14 @@ public class FakeValuesService {
 
     private static final Map<Class<?>, Class<?>> primitiveWrapperMap = new HashMap<>();
 
+    private static final ClassValue<Map<AccessorKey, MethodAndCoercedArgs>> ACCESSOR_CACHE =
+            new ClassValue<Map<AccessorKey, MethodAndCoercedArgs>>() {
+                @Override
+                protected Map<AccessorKey, MethodAndCoercedArgs> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
     static {
         primitiveWrapperMap.put(Boolean.TYPE, Boolean.class);
         primitiveWrapperMap.put(Byte.TYPE, Byte.class);
@@ -605,21 +769,53 @@ public class FakeValuesService {
     /**
      * simple wrapper class around an accessor and a list of coerced arguments.
      * this is useful as we get to find the method and coerce the arguments in one
-     * shot, returning both when successful.  This saves us from doing it more than once (coercing args).
+     * shot, returning both when successful.  Instances are cached, so this saves us from doing it
+     * more than once (coercing args).
      */
     private static class MethodAndCoercedArgs {
 
-        private final Method method;
+        /**
+         * Marks a cached lookup that didn't find any accessor.
+         */
+        private static final MethodAndCoercedArgs NOT_FOUND = new MethodAndCoercedArgs();
+
+        private final MethodHandle handle;
 
-        private final List<Object> coerced;
+        private final Object[] coerced;
 
-        private MethodAndCoercedArgs(Method m, List<Object> coerced) {
-            this.method = requireNonNull(m, "method cannot be null");
-            this.coerced = requireNonNull(coerced, "coerced arguments cannot be null");
+        private MethodAndCoercedArgs() {
+            this.handle = null;
+            this.coerced = null;
         }
 
-        private Object invoke(Object on) throws InvocationTargetException, IllegalAccessException {
-            return method.invoke(on, coerced.toArray());
+        private MethodAndCoercedArgs(MethodHandle handle, List<Object> coerced) {
+            this.handle = requireNonNull(handle, "method handle cannot be null");
+            this.coerced = requireNonNull(coerced, "coerced arguments cannot be null").toArray();
+        }
+
+        private Object invoke(Object on) throws InvocationTargetException {
+            try {
+                return handle.invokeExact(on, arguments());
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        /**
+         * @return a copy of the coerced arguments and of the arrays of varargs, so that a method changing its
+         * arguments doesn't change the cached ones, which are shared between calls and threads
+         */
+        private Object[] arguments() {
+            if (coerced.length == 0) {
+                return coerced;
+            }
+            final Object[] arguments = coerced.clone();
+            for (int i = 0; i < arguments.length; i++) {
+                if (arguments[i] instanceof Object[]) {
+                    arguments[i] = ((Object[]) arguments[i]).clone();
+                }
+            }
+            return arguments;
         }
 
         /**
@@ -632,4 +828,32 @@ public class FakeValuesService {
             return instance;
         }
     }
+
+    /**
+     * Cache key of an accessor lookup: the directive name as written and its raw arguments.
+     */
+    private static final class AccessorKey {
+
+        private final String name;
+
+        private final List<String> args;
+
+        private AccessorKey(String name, List<String> args) {
+            this.name = name;
+            this.args = args;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof AccessorKey)) return false;
+            AccessorKey that = (AccessorKey) o;
+            return name.equals(that.name) && args.equals(that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + args.hashCode();
+        }
+    }
 }
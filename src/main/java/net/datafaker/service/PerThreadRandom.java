@@ -0,0 +1,101 @@
+package net.datafaker.service;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * A {@link Random} which can be shared between threads without contention: every thread draws from its own
+ * {@link SplittableRandom}, split off a master generator the first time the thread uses it.
+ * <p>
+ * A {@link net.datafaker.Faker} created with this random can be shared across a thread pool:
+ * <pre>
+ * Faker faker = new Faker(new PerThreadRandom(42));
+ * </pre>
+ * With a seed, the n-th thread to draw from this random always gets the same stream. Which thread is the n-th
+ * one depends on the scheduling, so the values generated by each thread, and which thread generates which
+ * records, may change between runs with the same seed. Runs are only reproducible if threads start drawing in
+ * the same order, for example when each thread generates a fixed part of the data set and its first value is
+ * generated before the next thread is started. For data sets that are the same whatever the threads, use
+ * {@link net.datafaker.Faker#stream(long, java.util.function.Function)} or {@link net.datafaker.Faker#at(long)},
+ * which derive the random of each record from its index.
+ * <p>
+ * Unlike {@link Random}, the seed can't be changed after construction.
+ */
+public class PerThreadRandom extends Random {
+    private final SplittableRandom master;
+    private final ThreadLocal<SplittableRandom> streams = ThreadLocal.withInitial(this::split);
+    private final boolean initialized;
+
+    /**
+     * Uses an unpredictable seed.
+     */
+    public PerThreadRandom() {
+        this(new SplittableRandom());
+    }
+
+    public PerThreadRandom(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private PerThreadRandom(SplittableRandom master) {
+        this.master = master;
+        this.initialized = true;
+    }
+
+    private SplittableRandom split() {
+        synchronized (master) {
+            return master.split();
+        }
+    }
+
+    /**
+     * @throws UnsupportedOperationException always, the streams of the threads are derived from the seed given
+     *                                       at construction
+     */
+    @Override
+    public void setSeed(long seed) {
+        // Random's constructor sets the seed before the fields of this class are initialized
+        if (initialized) {
+            throw new UnsupportedOperationException("The seed of a PerThreadRandom can't be changed");
+        }
+    }
+
+    @Override
+    protected int next(int bits) {
+        return streams.get().nextInt() >>> (32 - bits);
+    }
+
+    @Override
+    public int nextInt() {
+        return streams.get().nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return streams.get().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return streams.get().nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return streams.get().nextDouble();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return streams.get().nextBoolean();
+    }
+
+    /**
+     * Without keeping the second value, which would be shared between threads, see
+     * {@link RandomGenerators#polarGaussian(java.util.function.DoubleSupplier)}.
+     */
+    @Override
+    public double nextGaussian() {
+        return RandomGenerators.polarGaussian(streams.get()::nextDouble);
+    }
+}
@@ -0,0 +1,66 @@
+package net.datafaker.service;
+
+/**
+ * A keyed pseudo-random permutation of {@code [0, size)}: every index is mapped to a distinct index, in an
+ * order that looks random and only depends on the seed. Going through the indices {@code 0, 1, 2, ...} thus
+ * visits every index of the domain exactly once, without remembering the ones already visited.
+ * <p>
+ * This is a format-preserving cipher: a balanced Feistel network of {@value #ROUNDS} rounds over the smallest
+ * domain of an even number of bits holding {@code size}, with cycle walking, i.e. values outside of
+ * {@code [0, size)} are encrypted again until they fall inside. The domain is less than 4 times {@code size},
+ * so less than 4 encryptions are needed on average. The rounds use the SplitMix64 finalizer keyed by round keys
+ * derived from the seed. This is not a cryptographic cipher.
+ */
+public final class Permutation {
+    static final int ROUNDS = 6;
+
+    private final long size;
+    private final int halfBits;
+    private final long halfMask;
+    private final long[] keys = new long[ROUNDS];
+
+    /**
+     * @param size the number of indices, positive
+     */
+    public Permutation(long size, long seed) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        this.size = size;
+        final int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(size - 1));
+        this.halfBits = (bits + 1) / 2;
+        this.halfMask = (1L << halfBits) - 1;
+        for (int i = 0; i < ROUNDS; i++) {
+            keys[i] = RandomGenerators.derivedSeed(seed, i);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return the image of the index, in {@code [0, size)}
+     */
+    public long apply(long index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Index " + index + " is not in [0, " + size + ")");
+        }
+        long x = index;
+        do {
+            x = encrypt(x);
+        } while (Long.compareUnsigned(x, size) >= 0);
+        return x;
+    }
+
+    private long encrypt(long x) {
+        long left = x >>> halfBits;
+        long right = x & halfMask;
+        for (long key : keys) {
+            final long next = left ^ (RandomGenerators.splitMix64(right ^ key) & halfMask);
+            left = right;
+            right = next;
+        }
+        return (left << halfBits) | right;
+    }
+}
@@ -0,0 +1,101 @@
+package net.datafaker.service;
+
+/**
+ * Values of the Poisson distribution of a mean, with the constants computed once. Below a mean of 10, a value is
+ * found by inversion, walking the probabilities from 0 with a single uniform value; above, it is drawn by the
+ * transformed rejection with squeeze (PTRS) of Hörmann, which takes about 1.1 pairs of uniform values whatever
+ * the mean.
+ *
+ * @see <a href="https://doi.org/10.1016/0167-6687(93)90997-4">The transformed rejection method for generating
+ * Poisson random variables</a>
+ */
+public final class PoissonSampler {
+    private static final double PTRS_MIN_MEAN = 10;
+    /**
+     * Below a mean of 10, the probability of values from 100 is below 10^-60: beyond, a uniform value close to 1
+     * is only left over by rounding errors.
+     */
+    private static final long INVERSION_MAX = 100;
+    private static final double[] LOG_FACTORIALS = new double[256];
+
+    static {
+        for (int i = 1; i < LOG_FACTORIALS.length; i++) {
+            LOG_FACTORIALS[i] = LOG_FACTORIALS[i - 1] + Math.log(i);
+        }
+    }
+
+    private final double mean;
+    private final double expMinusMean;
+    private final double logMean;
+    private final double a;
+    private final double b;
+    private final double logInvAlpha;
+    private final double vr;
+
+    /**
+     * @throws IllegalArgumentException if the mean is negative, infinite or NaN
+     */
+    public PoissonSampler(double mean) {
+        if (!(mean >= 0) || Double.isInfinite(mean)) {
+            throw new IllegalArgumentException("mean must be finite and not negative: " + mean);
+        }
+        this.mean = mean;
+        this.expMinusMean = Math.exp(-mean);
+        this.logMean = Math.log(mean);
+        this.b = 0.931 + 2.53 * Math.sqrt(mean);
+        this.a = -0.059 + 0.02483 * b;
+        this.logInvAlpha = Math.log(1.1239 + 1.1328 / (b - 3.4));
+        this.vr = 0.9277 - 3.6224 / (b - 2);
+    }
+
+    public double mean() {
+        return mean;
+    }
+
+    public long sample(RandomService random) {
+        return mean < PTRS_MIN_MEAN ? inversion(random) : ptrs(random);
+    }
+
+    private long inversion(RandomService random) {
+        double u = random.nextDouble();
+        double probability = expMinusMean;
+        long k = 0;
+        while (u > probability && k < INVERSION_MAX) {
+            u -= probability;
+            k++;
+            probability *= mean / k;
+        }
+        return k;
+    }
+
+    private long ptrs(RandomService random) {
+        while (true) {
+            final double u = random.nextDouble() - 0.5;
+            final double v = random.nextDouble();
+            final double us = 0.5 - Math.abs(u);
+            final long k = (long) Math.floor((2 * a / us + b) * u + mean + 0.43);
+            if (us >= 0.07 && v <= vr) {
+                return k;
+            }
+            if (k < 0 || us < 0.013 && v > us) {
+                continue;
+            }
+            if (Math.log(v) + logInvAlpha - Math.log(a / (us * us) + b) <= -mean + k * logMean - logFactorial(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * @return {@code ln(k!)}, from a table or Stirling's series
+     */
+    static double logFactorial(long k) {
+        if (k < LOG_FACTORIALS.length) {
+            return LOG_FACTORIALS[(int) k];
+        }
+        final double n = k;
+        final double inverse2 = 1 / (n * n);
+        return n * Math.log(n) - n + 0.5 * Math.log(2 * Math.PI * n)
+            + (1 / 12.0 - inverse2 * (1 / 360.0 - inverse2 / 1260.0)) / n;
+    }
+}
@@ -0,0 +1,307 @@
+package net.datafaker.service;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Alternatives to {@link java.util.Random}, which is synchronized through an atomic seed and only has 48 bits
+ * of state. The generators are returned as {@link Random}s, so they can be passed to a
+ * {@link net.datafaker.Faker} or a {@link RandomService}:
+ * <pre>
+ * Faker faker = new Faker(RandomGenerators.xoshiro256StarStar(42));
+ * </pre>
+ * For a given seed every generator always produces the same sequence. The generators are not thread safe,
+ * use one per thread or a {@link PerThreadRandom} to share a Faker between threads. Their seed can't be
+ * changed after creation.
+ */
+public final class RandomGenerators {
+
+    private RandomGenerators() {
+    }
+
+    /**
+     * @return a generator backed by a {@link SplittableRandom}
+     */
+    public static Random splittable(long seed) {
+        return new SplittableRandomAdapter(new SplittableRandom(seed));
+    }
+
+    /**
+     * @return a xoshiro256** generator, with the state expanded from the seed by SplitMix64
+     * @see <a href="https://prng.di.unimi.it/">xoshiro / xoroshiro generators</a>
+     */
+    public static Random xoshiro256StarStar(long seed) {
+        return new Xoshiro256StarStar(seed);
+    }
+
+    /**
+     * @return a PCG64 (XSL RR 128/64) generator, with the state and stream expanded from the seed by SplitMix64
+     * @see <a href="https://www.pcg-random.org/">PCG</a>
+     */
+    public static Random pcg64(long seed) {
+        return new Pcg64(seed);
+    }
+
+    /**
+     * @param algorithm the name of a {@code java.util.random.RandomGenerator} algorithm, e.g. {@code L64X128MixRandom}
+     * @return a generator of the JDK 17 {@code java.util.random} family
+     * @throws UnsupportedOperationException when running on a JDK without {@code java.util.random}
+     * @throws IllegalArgumentException      when the algorithm is unknown
+     */
+    public static Random jdk(String algorithm, long seed) {
+        final Class<?> factoryClass;
+        final Class<?> generatorClass;
+        try {
+            factoryClass = Class.forName("java.util.random.RandomGeneratorFactory");
+            generatorClass = Class.forName("java.util.random.RandomGenerator");
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("java.util.random requires Java 17 or later", e);
+        }
+        try {
+            final Object factory = factoryClass.getMethod("of", String.class).invoke(null, algorithm);
+            final Object generator = factoryClass.getMethod("create", long.class).invoke(factory, seed);
+            final MethodHandle nextLong = MethodHandles.publicLookup()
+                    .findVirtual(generatorClass, "nextLong", MethodType.methodType(long.class))
+                    .bindTo(generator);
+            return new JdkRandomGenerator(nextLong);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IllegalArgumentException) {
+                throw (IllegalArgumentException) e.getCause();
+            }
+            throw new IllegalStateException("Unable to create " + algorithm, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create " + algorithm, e);
+        }
+    }
+
+    /**
+     * Derives the seed of the {@code index}-th of a family of independent streams from a root seed, e.g. the
+     * seed of a block of records. Consecutive indexes give unrelated seeds.
+     */
+    public static long derivedSeed(long seed, long index) {
+        return splitMix64(splitMix64(seed) + (index + 1) * 0x9E3779B97F4A7C15L);
+    }
+
+    static long splitMix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Base of the generators: everything is derived from {@link #nextLong()}, without synchronization.
+     */
+    abstract static class LongRandom extends Random {
+        private final boolean initialized;
+
+        LongRandom() {
+            this.initialized = true;
+        }
+
+        @Override
+        public abstract long nextLong();
+
+        /**
+         * @throws UnsupportedOperationException always, the state is derived from the seed given at creation
+         */
+        @Override
+        public void setSeed(long seed) {
+            // Random's constructor sets the seed before the fields of this class are initialized
+            if (initialized) {
+                throw new UnsupportedOperationException("The seed of a " + getClass().getSimpleName() + " can't be changed");
+            }
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (nextLong() >>> (64 - bits));
+        }
+
+        @Override
+        public int nextInt() {
+            return (int) (nextLong() >>> 32);
+        }
+
+        /**
+         * Lemire's nearly divisionless method: a multiplication, and a division only for the rare rejections.
+         */
+        @Override
+        public int nextInt(int bound) {
+            if (bound <= 0) {
+                throw new IllegalArgumentException("bound must be positive");
+            }
+            long m = (nextLong() >>> 32) * bound;
+            long low = m & 0xFFFFFFFFL;
+            if (low < bound) {
+                final long threshold = Integer.remainderUnsigned(-bound, bound);
+                while (low < threshold) {
+                    m = (nextLong() >>> 32) * bound;
+                    low = m & 0xFFFFFFFFL;
+                }
+            }
+            return (int) (m >>> 32);
+        }
+
+        @Override
+        public double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+
+        @Override
+        public float nextFloat() {
+            return (nextLong() >>> 40) * 0x1.0p-24f;
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return nextLong() < 0;
+        }
+
+        /**
+         * Without keeping the second value, so the values only depend on the state of the generator, see
+         * {@link #polarGaussian(DoubleSupplier)}.
+         */
+        @Override
+        public double nextGaussian() {
+            return polarGaussian(this::nextDouble);
+        }
+    }
+
+    /**
+     * Marsaglia's polar method, as in {@link Random#nextGaussian()}, but returning only the first of the two
+     * values it computes.
+     *
+     * @param uniform values of {@code [0, 1)}
+     */
+    static double polarGaussian(DoubleSupplier uniform) {
+        double v1, v2, s;
+        do {
+            v1 = 2 * uniform.getAsDouble() - 1;
+            v2 = 2 * uniform.getAsDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        return v1 * StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+    }
+
+    private static final class SplittableRandomAdapter extends LongRandom {
+        private final SplittableRandom random;
+
+        private SplittableRandomAdapter(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+    }
+
+    private static final class Xoshiro256StarStar extends LongRandom {
+        private long s0;
+        private long s1;
+        private long s2;
+        private long s3;
+
+        private Xoshiro256StarStar(long seed) {
+            s0 = splitMix64(seed += 0x9E3779B97F4A7C15L);
+            s1 = splitMix64(seed += 0x9E3779B97F4A7C15L);
+            s2 = splitMix64(seed += 0x9E3779B97F4A7C15L);
+            s3 = splitMix64(seed + 0x9E3779B97F4A7C15L);
+        }
+
+        @Override
+        public long nextLong() {
+            final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+            final long t = s1 << 17;
+            s2 ^= s0;
+            s3 ^= s1;
+            s1 ^= s2;
+            s0 ^= s3;
+            s2 ^= t;
+            s3 = Long.rotateLeft(s3, 45);
+            return result;
+        }
+    }
+
+    static final class Pcg64 extends LongRandom {
+        private static final long MULTIPLIER_HIGH = 0x2360ED051FC65DA4L;
+        private static final long MULTIPLIER_LOW = 0x4385DF649FCCF645L;
+
+        private final long incrementHigh;
+        private final long incrementLow;
+        private long stateHigh;
+        private long stateLow;
+
+        /**
+         * Seeds like {@code pcg_setseq_128_srandom_r}: the increment is made odd and the state is stepped
+         * before and after adding the initial state.
+         */
+        private Pcg64(long seed) {
+            final long initStateHigh = splitMix64(seed += 0x9E3779B97F4A7C15L);
+            final long initStateLow = splitMix64(seed += 0x9E3779B97F4A7C15L);
+            final long initSeqHigh = splitMix64(seed += 0x9E3779B97F4A7C15L);
+            final long initSeqLow = splitMix64(seed + 0x9E3779B97F4A7C15L);
+            incrementHigh = (initSeqHigh << 1) | (initSeqLow >>> 63);
+            incrementLow = (initSeqLow << 1) | 1;
+            step();
+            final long low = stateLow + initStateLow;
+            stateHigh += initStateHigh + (Long.compareUnsigned(low, stateLow) < 0 ? 1 : 0);
+            stateLow = low;
+            step();
+        }
+
+        /**
+         * state = state * multiplier + increment, modulo 2^128
+         */
+        private void step() {
+            final long high = multiplyHighUnsigned(stateLow, MULTIPLIER_LOW)
+                    + stateHigh * MULTIPLIER_LOW + stateLow * MULTIPLIER_HIGH;
+            final long low = stateLow * MULTIPLIER_LOW;
+            stateLow = low + incrementLow;
+            stateHigh = high + incrementHigh + (Long.compareUnsigned(stateLow, low) < 0 ? 1 : 0);
+        }
+
+        @Override
+        public long nextLong() {
+            step();
+            return Long.rotateRight(stateHigh ^ stateLow, (int) (stateHigh >>> 58));
+        }
+
+        /**
+         * The high 64 bits of the unsigned 128 bit product, {@code Math.unsignedMultiplyHigh} of Java 18.
+         */
+        static long multiplyHighUnsigned(long x, long y) {
+            final long x0 = x & 0xFFFFFFFFL;
+            final long x1 = x >>> 32;
+            final long y0 = y & 0xFFFFFFFFL;
+            final long y1 = y >>> 32;
+            final long p00 = x0 * y0;
+            final long p01 = x0 * y1;
+            final long p10 = x1 * y0;
+            final long middle = (p00 >>> 32) + (p01 & 0xFFFFFFFFL) + (p10 & 0xFFFFFFFFL);
+            return x1 * y1 + (p01 >>> 32) + (p10 >>> 32) + (middle >>> 32);
+        }
+    }
+
+    private static final class JdkRandomGenerator extends LongRandom {
+        private final MethodHandle nextLong;
+
+        private JdkRandomGenerator(MethodHandle nextLong) {
+            this.nextLong = nextLong;
+        }
+
+        @Override
+        public long nextLong() {
+            try {
+                return (long) nextLong.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -3,11 +3,12 @@ package net.datafaker.service;
 import java.util.Random;
 
 public class RandomService {
-    private static final Random SHARED_RANDOM = new Random();
+    private static final Random SHARED_RANDOM = new PerThreadRandom();
     private final Random random;
 
     /**
-     * Uses a default shared random.
+     * Uses a default shared random without a seed, which gives every thread its own stream, see
+     * {@link PerThreadRandom}.
      */
     public RandomService() {
         this(SHARED_RANDOM);
@@ -29,6 +30,17 @@ public class RandomService {
         return random.nextInt(n);
     }
 
+    /**
+     * Fills {@code dst} with random ints between 0 (inclusive) and {@code bound} (exclusive), the same values
+     * as {@code dst.length} calls of {@link #nextInt(int)}.
+     */
+    public void nextInts(int[] dst, int bound) {
+        final Random random = this.random;
+        for (int i = 0; i < dst.length; i++) {
+            dst[i] = random.nextInt(bound);
+        }
+    }
+
     public Integer nextInt(int min, int max) {
         return random.nextInt((max - min) + 1) + min;
     }
@@ -0,0 +1,170 @@
+package net.datafaker.service;
+
+import dk.brics.automaton.Automaton;
+import dk.brics.automaton.RegExp;
+import dk.brics.automaton.State;
+import dk.brics.automaton.Transition;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression compiled into an immutable automaton from which random matching strings are drawn.
+ * <p>
+ * This replaces Generex, which was created anew for every generated string. The regular expression is
+ * handled the same way: {@code \Q...\E} quoted sections and the predefined character classes
+ * {@code \d \D \s \S \w \W} are rewritten to the dk.brics syntax. The random walk follows Generex too,
+ * but draws from a {@link RandomService} instead of a reseeded {@link java.util.Random}, so a compiled
+ * automaton can be cached and shared between threads and {@link net.datafaker.Faker}s.
+ *
+ * @see <a href="https://github.com/mifmif/Generex">Generex</a>
+ */
+final class RegexAutomaton {
+
+    private static final Pattern QUOTED = Pattern.compile("\\\\Q(.*?)\\\\E");
+    private static final Pattern SPECIAL_CHARACTERS = Pattern.compile("[.^$*+?(){|\\[\\\\@]");
+    private static final String[][] PREDEFINED_CHARACTER_CLASSES = {
+            {"\\\\d", "[0-9]"},
+            {"\\\\D", "[^0-9]"},
+            {"\\\\s", "[ \t\n\f\r]"},
+            {"\\\\S", "[^ \t\n\f\r]"},
+            {"\\\\w", "[a-zA-Z_0-9]"},
+            {"\\\\W", "[^a-zA-Z_0-9]"},
+    };
+
+    /**
+     * Upper bound of cached automata. Once the limit is reached new expressions are compiled but no longer cached.
+     */
+    private static final int MAX_CACHED_AUTOMATA = 1_000;
+    private static final Map<String, RegexAutomaton> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Probability of stopping in an accepting state, as in Generex.
+     */
+    private static final double STOP_THRESHOLD = 0.3 * Integer.MAX_VALUE;
+
+    private final Node initial;
+
+    private RegexAutomaton(Automaton automaton) {
+        final Map<State, Node> nodes = new IdentityHashMap<>();
+        for (State state : automaton.getStates()) {
+            nodes.put(state, new Node(state.isAccept()));
+        }
+        for (Map.Entry<State, Node> entry : nodes.entrySet()) {
+            final List<Transition> transitions = entry.getKey().getSortedTransitions(false);
+            final Node node = entry.getValue();
+            node.min = new char[transitions.size()];
+            node.max = new char[transitions.size()];
+            node.dest = new Node[transitions.size()];
+            for (int i = 0; i < transitions.size(); i++) {
+                final Transition transition = transitions.get(i);
+                node.min[i] = transition.getMin();
+                node.max[i] = transition.getMax();
+                node.dest[i] = nodes.get(transition.getDest());
+            }
+        }
+        this.initial = nodes.get(automaton.getInitialState());
+    }
+
+    /**
+     * Returns the compiled form of the regular expression, from the cache when possible.
+     */
+    static RegexAutomaton compile(String regex) {
+        RegexAutomaton automaton = CACHE.get(regex);
+        if (automaton == null) {
+            automaton = new RegexAutomaton(new RegExp(predefinedCharacterClasses(requote(regex))).toAutomaton());
+            if (CACHE.size() < MAX_CACHED_AUTOMATA) {
+                CACHE.putIfAbsent(regex, automaton);
+            }
+        }
+        return automaton;
+    }
+
+    /**
+     * Generates a random string matching the regular expression.
+     */
+    String random(RandomService randomService) {
+        final StringBuilder result = new StringBuilder();
+        random(result, initial, 1, Integer.MAX_VALUE, randomService);
+        return result.toString();
+    }
+
+    /**
+     * Appends a random path from {@code node} to {@code result}. Transitions are tried in random order until
+     * one leads to a string of an acceptable length. If none does, {@code result} holds the last attempt.
+     */
+    private void random(StringBuilder result, Node node, int minLength, int maxLength, RandomService randomService) {
+        final int length = result.length();
+        final int transitions = node.dest.length;
+        boolean[] selected = null;
+        int selectedCount = 0;
+
+        while (transitions > selectedCount) {
+            if (node.accept) {
+                if (length == maxLength) {
+                    result.setLength(length);
+                    return;
+                }
+                if (randomService.nextInt() > STOP_THRESHOLD && length >= minLength) {
+                    result.setLength(length);
+                    return;
+                }
+            }
+
+            final int option = randomService.nextInt(transitions);
+            if (selected == null) {
+                selected = new boolean[transitions];
+            } else if (selected[option]) {
+                continue;
+            }
+            selected[option] = true;
+            selectedCount++;
+
+            final int diff = node.max[option] - node.min[option] + 1;
+            final int offset = diff > 0 ? randomService.nextInt(diff) : diff;
+            result.setLength(length);
+            result.append((char) (offset + node.min[option]));
+            random(result, node.dest[option], minLength, maxLength, randomService);
+
+            final int resultLength = result.length();
+            if (minLength <= resultLength && resultLength <= maxLength) {
+                return;
+            }
+        }
+    }
+
+    private static String requote(String regex) {
+        final StringBuilder sb = new StringBuilder(regex);
+        final Matcher matcher = QUOTED.matcher(sb);
+        while (matcher.find()) {
+            sb.replace(matcher.start(), matcher.end(), SPECIAL_CHARACTERS.matcher(matcher.group(1)).replaceAll("\\\\$0"));
+        }
+        return sb.toString();
+    }
+
+    private static String predefinedCharacterClasses(String regex) {
+        String result = regex;
+        for (String[] characterClass : PREDEFINED_CHARACTER_CLASSES) {
+            result = result.replaceAll(characterClass[0], characterClass[1]);
+        }
+        return result;
+    }
+
+    /**
+     * A state of the automaton with its transitions sorted the way Generex walks them.
+     */
+    private static final class Node {
+        private final boolean accept;
+        private char[] min;
+        private char[] max;
+        private Node[] dest;
+
+        private Node(boolean accept) {
+            this.accept = accept;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package net.datafaker.service;
+
+/**
+ * Standard normal and exponential values with the ziggurat method of Marsaglia and Tsang: the density is covered
+ * by 128 (normal) or 256 (exponential) layers of equal area, so most values only take a random {@code long},
+ * a table lookup and a multiplication. The tables are computed once.
+ * <p>
+ * The layer is taken from the low bits of the random {@code long} and the value from its high 32 bits, so they
+ * are independent, unlike in the original algorithm.
+ *
+ * @see <a href="https://www.jstatsoft.org/article/view/v005i08">The Ziggurat Method for Generating Random
+ * Variables</a>
+ */
+public final class Ziggurat {
+    private static final double TWO_POW_31 = 2147483648.0;
+    private static final double TWO_POW_32 = 4294967296.0;
+    /**
+     * The start of the tail of the normal distribution, and the area of a layer.
+     */
+    private static final double NORMAL_R = 3.442619855899;
+    private static final double NORMAL_AREA = 9.91256303526217e-3;
+    private static final double EXPONENTIAL_R = 7.697117470131487;
+    private static final double EXPONENTIAL_AREA = 3.949659822581572e-3;
+
+    private static final long[] KN = new long[128];
+    private static final double[] WN = new double[128];
+    private static final double[] FN = new double[128];
+    private static final long[] KE = new long[256];
+    private static final double[] WE = new double[256];
+    private static final double[] FE = new double[256];
+
+    static {
+        double dn = NORMAL_R;
+        double tn = dn;
+        final double qn = NORMAL_AREA / Math.exp(-0.5 * dn * dn);
+        KN[0] = (long) ((dn / qn) * TWO_POW_31);
+        KN[1] = 0;
+        WN[0] = qn / TWO_POW_31;
+        WN[127] = dn / TWO_POW_31;
+        FN[0] = 1.0;
+        FN[127] = Math.exp(-0.5 * dn * dn);
+        for (int i = 126; i >= 1; i--) {
+            dn = Math.sqrt(-2.0 * Math.log(NORMAL_AREA / dn + Math.exp(-0.5 * dn * dn)));
+            KN[i + 1] = (long) ((dn / tn) * TWO_POW_31);
+            tn = dn;
+            FN[i] = Math.exp(-0.5 * dn * dn);
+            WN[i] = dn / TWO_POW_31;
+        }
+
+        double de = EXPONENTIAL_R;
+        double te = de;
+        final double qe = EXPONENTIAL_AREA / Math.exp(-de);
+        KE[0] = (long) ((de / qe) * TWO_POW_32);
+        KE[1] = 0;
+        WE[0] = qe / TWO_POW_32;
+        WE[255] = de / TWO_POW_32;
+        FE[0] = 1.0;
+        FE[255] = Math.exp(-de);
+        for (int i = 254; i >= 1; i--) {
+            de = -Math.log(EXPONENTIAL_AREA / de + Math.exp(-de));
+            KE[i + 1] = (long) ((de / te) * TWO_POW_32);
+            te = de;
+            FE[i] = Math.exp(-de);
+            WE[i] = de / TWO_POW_32;
+        }
+    }
+
+    private Ziggurat() {
+    }
+
+    /**
+     * @return a value of the normal distribution of mean 0 and standard deviation 1
+     */
+    public static double normal(RandomService random) {
+        while (true) {
+            final long bits = random.nextLong();
+            final int layer = (int) bits & 127;
+            final long value = (int) (bits >>> 32);
+            final double x = value * WN[layer];
+            if (Math.abs(value) < KN[layer]) {
+                // inside the rectangle of the layer
+                return x;
+            }
+            if (layer == 0) {
+                return normalTail(random, value > 0);
+            }
+            if (FN[layer] + random.nextDouble() * (FN[layer - 1] - FN[layer]) < Math.exp(-0.5 * x * x)) {
+                // under the density, in the wedge of the layer
+                return x;
+            }
+        }
+    }
+
+    /**
+     * @return a value of the exponential distribution of rate 1
+     */
+    public static double exponential(RandomService random) {
+        double offset = 0;
+        while (true) {
+            final long bits = random.nextLong();
+            final int layer = (int) bits & 255;
+            final long value = bits >>> 32;
+            final double x = value * WE[layer];
+            if (value < KE[layer]) {
+                return offset + x;
+            }
+            if (layer == 0) {
+                // the tail is an exponential distribution shifted by R
+                offset += EXPONENTIAL_R;
+                continue;
+            }
+            if (FE[layer] + random.nextDouble() * (FE[layer - 1] - FE[layer]) < Math.exp(-x)) {
+                return offset + x;
+            }
+        }
+    }
+
+    /**
+     * Marsaglia's method for the tail beyond R.
+     */
+    private static double normalTail(RandomService random, boolean positive) {
+        double x;
+        double y;
+        do {
+            x = -Math.log(1 - random.nextDouble()) / NORMAL_R;
+            y = -Math.log(1 - random.nextDouble());
+        } while (y + y < x * x);
+        return positive ? NORMAL_R + x : -NORMAL_R - x;
+    }
+}
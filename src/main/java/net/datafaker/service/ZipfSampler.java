@@ -0,0 +1,106 @@
+package net.datafaker.service;
+
+/**
+ * Values of the Zipf distribution: ranks from 1 to n, rank k having a probability proportional to
+ * {@code 1 / k^exponent}. They are drawn by the rejection-inversion of Hörmann and Derflinger: the inverse of the
+ * integral of a continuous hat function gives a candidate, which is accepted most of the time, so a value takes
+ * a few uniform values and logarithms whatever n is, and nothing is stored per rank.
+ *
+ * @see <a href="https://doi.org/10.1145/235025.235029">Rejection-inversion to generate variates from monotone
+ * discrete distributions</a>
+ */
+public final class ZipfSampler {
+    private final long numberOfElements;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralNumberOfElements;
+    private final double s;
+
+    /**
+     * @throws IllegalArgumentException if the number of elements or the exponent is not positive
+     */
+    public ZipfSampler(long numberOfElements, double exponent) {
+        if (numberOfElements < 1) {
+            throw new IllegalArgumentException("numberOfElements must be positive: " + numberOfElements);
+        }
+        if (!(exponent > 0) || Double.isInfinite(exponent)) {
+            throw new IllegalArgumentException("exponent must be positive and finite: " + exponent);
+        }
+        this.numberOfElements = numberOfElements;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1;
+        this.hIntegralNumberOfElements = hIntegral(numberOfElements + 0.5);
+        this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    public long numberOfElements() {
+        return numberOfElements;
+    }
+
+    public double exponent() {
+        return exponent;
+    }
+
+    /**
+     * @return a rank from 1 to the number of elements
+     */
+    public long sample(RandomService random) {
+        while (true) {
+            final double u = hIntegralNumberOfElements
+                + random.nextDouble() * (hIntegralX1 - hIntegralNumberOfElements);
+            final double x = hIntegralInverse(u);
+            long k = (long) (x + 0.5);
+            if (k < 1) {
+                k = 1;
+            } else if (k > numberOfElements) {
+                k = numberOfElements;
+            }
+            // most candidates are accepted without computing the density
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    }
+
+    /**
+     * The hat function {@code x^-exponent}.
+     */
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    /**
+     * An integral of the hat function, {@code (x^(1-exponent) - 1) / (1 - exponent)}, or {@code ln(x)} when the
+     * exponent is 1.
+     */
+    private double hIntegral(double x) {
+        final double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        // rounding errors may take t below -1
+        final double t = Math.max(-1, x * (1 - exponent));
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    /**
+     * {@code ln(1 + x) / x}, continuous at 0.
+     */
+    private static double log1pOverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.log1p(x) / x;
+        }
+        return 1 - x * (0.5 - x * (1 / 3.0 - 0.25 * x));
+    }
+
+    /**
+     * {@code (e^x - 1) / x}, continuous at 0.
+     */
+    private static double expm1OverX(double x) {
+        if (Math.abs(x) > 1e-8) {
+            return Math.expm1(x) / x;
+        }
+        return 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+    }
+}
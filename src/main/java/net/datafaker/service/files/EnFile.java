@@ -2,6 +2,7 @@ package net.datafaker.service.files;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 
@@ -216,13 +217,19 @@ public class EnFile {
             new EnFile("hearthstone.yml", "games"));
 
 
-    public static List<EnFile> getFiles() {
+    private static final List<EnFile> ALL_FILES = allFiles();
+
+    private static List<EnFile> allFiles() {
         List<EnFile> files = new ArrayList<>();
         for (String file : FILES) {
             files.add(new EnFile(file));
         }
         files.addAll(FILES_WITH_A_DIFFERENT_PATH);
 
-        return files;
+        return Collections.unmodifiableList(files);
+    }
+
+    public static List<EnFile> getFiles() {
+        return ALL_FILES;
     }
 }
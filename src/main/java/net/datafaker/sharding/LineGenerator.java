@@ -0,0 +1,18 @@
+package net.datafaker.sharding;
+
+import net.datafaker.Faker;
+
+/**
+ * Generates one line of a data set, e.g. a CSV row, from the faker of the row.
+ * <p>
+ * Implementations are instantiated by the worker processes of a {@link ShardCoordinator}, so they need a public
+ * no-arg constructor.
+ */
+public interface LineGenerator {
+
+    /**
+     * @param faker the faker of the row, see {@link Faker#at(long)}
+     * @return the row, without line terminator
+     */
+    String generate(Faker faker);
+}
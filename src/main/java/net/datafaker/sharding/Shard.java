@@ -0,0 +1,79 @@
+package net.datafaker.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A range of rows {@code [from, to)} of a data set, the {@code index}-th of a partition of the data set.
+ */
+public final class Shard {
+    private final int index;
+    private final long from;
+    private final long to;
+
+    public Shard(int index, long from, long to) {
+        if (index < 0 || from < 0 || to < from) {
+            throw new IllegalArgumentException("Invalid shard " + index + " [" + from + ", " + to + ")");
+        }
+        this.index = index;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Splits {@code rows} rows into {@code shards} consecutive shards whose sizes differ by at most one row.
+     */
+    public static List<Shard> partition(long rows, int shards) {
+        if (rows < 0) {
+            throw new IllegalArgumentException("rows must not be negative");
+        }
+        if (shards < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        final List<Shard> result = new ArrayList<>(shards);
+        final long size = rows / shards;
+        final long remainder = rows % shards;
+        long from = 0;
+        for (int i = 0; i < shards; i++) {
+            final long to = from + size + (i < remainder ? 1 : 0);
+            result.add(new Shard(i, from, to));
+            from = to;
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public long getFrom() {
+        return from;
+    }
+
+    public long getTo() {
+        return to;
+    }
+
+    public long size() {
+        return to - from;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Shard shard = (Shard) o;
+        return index == shard.index && from == shard.from && to == shard.to;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * index + Long.hashCode(from)) + Long.hashCode(to);
+    }
+
+    @Override
+    public String toString() {
+        return "Shard " + index + " [" + from + ", " + to + ")";
+    }
+}
@@ -0,0 +1,269 @@
+package net.datafaker.sharding;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Generates a data set of many rows in worker processes:
+ * <pre>
+ * ShardCoordinator.builder(MyLineGenerator.class, 2_000_000_000L, 42)
+ *     .shards(64)
+ *     .parallelism(8)
+ *     .build()
+ *     .run(Paths.get("data.csv"));
+ * </pre>
+ * The rows are split into consecutive {@link Shard}s. Every shard is generated by a {@link ShardWorker} in a
+ * separate JVM, at most {@code parallelism} at a time, and the shard files are concatenated in the order of the
+ * shards. Row {@code i} only depends on the seed and {@code i}, so the output is the same whatever the number
+ * of shards and workers, and the same as a single {@link ShardWorker} generating all rows.
+ */
+public final class ShardCoordinator {
+    private final Class<? extends LineGenerator> generator;
+    private final long rows;
+    private final long seed;
+    private final int shards;
+    private final int parallelism;
+    private final Locale locale;
+    private final Path workDirectory;
+    private final String javaCommand;
+    private final String classPath;
+    private final List<String> jvmArguments;
+
+    private ShardCoordinator(Builder builder) {
+        this.generator = builder.generator;
+        this.rows = builder.rows;
+        this.seed = builder.seed;
+        this.shards = builder.shards;
+        this.parallelism = builder.parallelism;
+        this.locale = builder.locale;
+        this.workDirectory = builder.workDirectory;
+        this.javaCommand = builder.javaCommand;
+        this.classPath = builder.classPath;
+        this.jvmArguments = Collections.unmodifiableList(new ArrayList<>(builder.jvmArguments));
+    }
+
+    /**
+     * @param generator the generator of the rows, with a public no-arg constructor, on the class path of the workers
+     * @param rows      the number of rows of the data set
+     * @param seed      the seed of the data set
+     */
+    public static Builder builder(Class<? extends LineGenerator> generator, long rows, long seed) {
+        return new Builder(generator, rows, seed);
+    }
+
+    public List<Shard> getShards() {
+        return Shard.partition(rows, shards);
+    }
+
+    /**
+     * Generates the data set into {@code output}. The shards are concatenated into {@code <output>.partial}, which
+     * then replaces the output, so the output is left as it was if a worker fails.
+     */
+    public void run(Path output) throws IOException, InterruptedException {
+        final boolean temporary = workDirectory == null;
+        final Path directory = temporary ? Files.createTempDirectory("datafaker-shards") : workDirectory;
+        try {
+            final List<Path> files = generateShards(directory);
+            final Path partial = output.resolveSibling(output.getFileName() + ".partial");
+            try {
+                concatenate(files, partial);
+                move(partial, output);
+            } finally {
+                Files.deleteIfExists(partial);
+            }
+        } finally {
+            for (Shard shard : getShards()) {
+                Files.deleteIfExists(shardFile(directory, shard));
+            }
+            if (temporary) {
+                Files.deleteIfExists(directory);
+            }
+        }
+    }
+
+    private static void concatenate(List<Path> files, Path output) throws IOException {
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Path file : files) {
+                try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+                    final long size = in.size();
+                    for (long position = 0; position < size; ) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Generates every shard into a file {@code shard-<index>} of the directory, without concatenating them.
+     *
+     * @return the files of the shards, in the order of the shards
+     * @throws IOException as soon as a worker fails, after the workers still running have been stopped
+     */
+    public List<Path> generateShards(Path directory) throws IOException, InterruptedException {
+        final List<Shard> partition = getShards();
+        final List<Path> files = new ArrayList<>(partition.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partition.size()));
+        try {
+            final CompletionService<Void> workers = new ExecutorCompletionService<>(executor);
+            for (Shard shard : partition) {
+                final Path file = shardFile(directory, shard);
+                files.add(file);
+                workers.submit(() -> {
+                    runWorker(shard, file);
+                    return null;
+                });
+            }
+            // in the order the workers finish, so that the first failure stops the others
+            for (int i = 0; i < partition.size(); i++) {
+                workers.take().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return files;
+    }
+
+    private static Path shardFile(Path directory, Shard shard) {
+        return directory.resolve("shard-" + shard.getIndex());
+    }
+
+    private void runWorker(Shard shard, Path file) throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>();
+        command.add(javaCommand);
+        command.addAll(jvmArguments);
+        command.add("-cp");
+        command.add(classPath);
+        command.add(ShardWorker.class.getName());
+        command.add(generator.getName());
+        command.add(locale.toString());
+        command.add(Long.toString(seed));
+        command.add(Long.toString(shard.getFrom()));
+        command.add(Long.toString(shard.getTo()));
+        command.add(file.toString());
+
+        final Process process = new ProcessBuilder(command).inheritIO().start();
+        try {
+            final int exitCode = process.waitFor();
+            if (exitCode != 0) {
+                throw new IOException(shard + " failed with exit code " + exitCode);
+            }
+        } finally {
+            process.destroyForcibly();
+        }
+    }
+
+    public static final class Builder {
+        private final Class<? extends LineGenerator> generator;
+        private final long rows;
+        private final long seed;
+        private int shards = Runtime.getRuntime().availableProcessors();
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private Locale locale = Locale.ENGLISH;
+        private Path workDirectory;
+        private String javaCommand = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        private String classPath = System.getProperty("java.class.path");
+        private final List<String> jvmArguments = new ArrayList<>();
+
+        private Builder(Class<? extends LineGenerator> generator, long rows, long seed) {
+            this.generator = generator;
+            this.rows = rows;
+            this.seed = seed;
+        }
+
+        /**
+         * @param shards the number of shards, by default the number of processors
+         */
+        public Builder shards(int shards) {
+            this.shards = shards;
+            return this;
+        }
+
+        /**
+         * @param parallelism the maximum number of workers running at the same time, by default the number of processors
+         */
+        public Builder parallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        public Builder locale(Locale locale) {
+            this.locale = locale;
+            return this;
+        }
+
+        /**
+         * @param workDirectory the directory of the shard files, by default a temporary directory
+         */
+        public Builder workDirectory(Path workDirectory) {
+            this.workDirectory = workDirectory;
+            return this;
+        }
+
+        /**
+         * @param javaCommand the java executable of the workers, by default the one of the running JVM
+         */
+        public Builder javaCommand(String javaCommand) {
+            this.javaCommand = javaCommand;
+            return this;
+        }
+
+        /**
+         * @param classPath the class path of the workers, by default the one of the running JVM
+         */
+        public Builder classPath(String classPath) {
+            this.classPath = classPath;
+            return this;
+        }
+
+        /**
+         * @param jvmArguments options of the worker JVMs, e.g. {@code -Xmx2g}
+         */
+        public Builder jvmArguments(String... jvmArguments) {
+            Collections.addAll(this.jvmArguments, jvmArguments);
+            return this;
+        }
+
+        public ShardCoordinator build() {
+            if (rows < 0) {
+                throw new IllegalArgumentException("rows must not be negative");
+            }
+            if (shards < 1) {
+                throw new IllegalArgumentException("At least one shard is required");
+            }
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be positive");
+            }
+            return new ShardCoordinator(this);
+        }
+    }
+}
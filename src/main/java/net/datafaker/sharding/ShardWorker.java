@@ -0,0 +1,61 @@
+package net.datafaker.sharding;
+
+import net.datafaker.Faker;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Generates the rows of one shard of a data set into a file, one line per row. This is the main class of the
+ * worker processes of a {@link ShardCoordinator}.
+ * <p>
+ * Row {@code i} is generated with the faker of {@code new Faker(locale, new Random(seed)).at(i)}, so a shard
+ * only depends on the seed and its range and never repeats the rows of another shard.
+ */
+public final class ShardWorker {
+
+    private ShardWorker() {
+    }
+
+    /**
+     * @param args generator class, locale (as {@link Locale#toString()}), seed, from, to, output file
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 6) {
+            System.err.println("Usage: ShardWorker <generator class> <locale> <seed> <from> <to> <output file>");
+            System.exit(2);
+        }
+        final LineGenerator generator = newGenerator(args[0]);
+        final Locale locale = new Locale(args[1]);
+        final long seed = Long.parseLong(args[2]);
+        final long from = Long.parseLong(args[3]);
+        final long to = Long.parseLong(args[4]);
+        write(generator, locale, seed, from, to, Paths.get(args[5]));
+    }
+
+    static LineGenerator newGenerator(String className) throws ReflectiveOperationException {
+        return Class.forName(className).asSubclass(LineGenerator.class).getConstructor().newInstance();
+    }
+
+    /**
+     * Writes the rows {@code [from, to)} of the data set of the seed to a file.
+     */
+    public static void write(LineGenerator generator, Locale locale, long seed, long from, long to, Path output) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(output), StandardCharsets.UTF_8), 1 << 16)) {
+            final Iterator<String> lines = new Faker(locale, new Random(seed)).stream(from, to, generator::generate).iterator();
+            while (lines.hasNext()) {
+                writer.write(lines.next());
+                writer.write('\n');
+            }
+        }
+    }
+}
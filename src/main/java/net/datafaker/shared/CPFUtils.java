@@ -1,32 +1,18 @@
 package net.datafaker.shared;
 
+import net.datafaker.checksum.Mod11;
+
 /**
  * Utility class used by CPF and CPFTest centralize shared methods
  */
 public class CPFUtils {
 
     public static String calculateVerificationDigit(String num) {
-
-        int primDig, segDig;
-        int sum = 0, peso = 10;
-        for (int i = 0; i < num.length(); i++)
-            sum += Integer.parseInt(num.substring(i, i + 1)) * peso--;
-
-        if (sum % 11 == 0 | sum % 11 == 1)
-            primDig = 0;
-        else
-            primDig = 11 - (sum % 11);
-
-        sum = 0;
-        peso = 11;
-        for (int i = 0; i < num.length(); i++)
-            sum += Integer.parseInt(num.substring(i, i + 1)) * peso--;
-
-        sum += primDig * 2;
-        if (sum % 11 == 0 | sum % 11 == 1)
-            segDig = 0;
-        else
-            segDig = 11 - (sum % 11);
+        final char[] digits = new char[num.length() + 1];
+        num.getChars(0, num.length(), digits, 0);
+        final int primDig = Mod11.checkDigit(digits, 0, num.length(), Mod11.NO_CYCLE);
+        digits[num.length()] = (char) ('0' + primDig);
+        final int segDig = Mod11.checkDigit(digits, 0, digits.length, Mod11.NO_CYCLE);
 
         return Integer.toString(primDig) + segDig;
     }
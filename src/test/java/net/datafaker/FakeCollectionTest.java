@@ -0,0 +1,62 @@
+package net.datafaker;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class FakeCollectionTest extends AbstractFakerTest {
+
+    @Test
+    public void fixedLength() {
+        final List<String> names = faker.collection(() -> faker.name().firstName()).len(5).build().get();
+        assertThat(names, hasSize(5));
+    }
+
+    @Test
+    public void lengthInRange() {
+        final FakeCollection<String> collection = faker.collection(() -> faker.name().firstName()).len(2, 4).build();
+        for (int i = 0; i < 20; i++) {
+            assertThat(collection.get().size(), is(both(greaterThanOrEqualTo(2)).and(lessThanOrEqualTo(4))));
+        }
+    }
+
+    @Test
+    public void valuesOfAllSuppliers() {
+        final List<String> values = faker.<String>collection(() -> "a", () -> "b")
+                .suppliers(() -> "c")
+                .len(100)
+                .build()
+                .get();
+        assertThat(values, everyItem(isOneOf("a", "b", "c")));
+        assertThat(values.contains("a") && values.contains("b") && values.contains("c"), is(true));
+    }
+
+    @Test
+    public void stream() {
+        assertThat(faker.collection(() -> faker.name().firstName()).len(3).build().stream().count(), is(3L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void lengthIsRequired() {
+        faker.collection(() -> faker.name().firstName()).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void minimumLengthMustNotExceedMaximum() {
+        faker.collection(() -> faker.name().firstName()).len(3, 2).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void supplierIsRequired() {
+        faker.<String>collection().len(1).build();
+    }
+}
@@ -0,0 +1,179 @@
+package net.datafaker;
+
+import net.datafaker.service.FakeValuesService;
+import net.datafaker.service.RandomService;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+
+public class FakeSpliteratorTest {
+
+    private static final int COUNT = 10 * FakeSpliterator.MIN_SPLIT_SIZE + 17;
+    private static final Faker DATASET = new Faker();
+
+    @Test
+    public void parallelStreamGeneratesSameRecordsAsSequentialStream() {
+        final List<String> sequential = new Faker(new Random(42)).stream(COUNT, f -> f.name().fullName() + f.address().city())
+                .collect(Collectors.toList());
+        final List<String> parallel = new Faker(new Random(42)).stream(COUNT, f -> f.name().fullName() + f.address().city())
+                .parallel()
+                .collect(Collectors.toList());
+        assertThat(sequential, hasSize(COUNT));
+        assertThat(parallel, is(sequential));
+    }
+
+    @Test
+    public void differentSeedsGenerateDifferentRecords() {
+        assertThat(new Faker(new Random(1)).stream(10, f -> f.name().fullName()).collect(Collectors.toList()),
+                is(not(new Faker(new Random(2)).stream(10, f -> f.name().fullName()).collect(Collectors.toList()))));
+    }
+
+    @Test
+    public void splitsInHalves() {
+        final Spliterator<Integer> spliterator = new FakeSpliterator<>(DATASET, 1, f -> f.number().randomDigit(), 0, COUNT);
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertThat(prefix, is(notNullValue()));
+        assertThat(prefix.estimateSize(), is((long) COUNT / 2));
+        assertThat(prefix.estimateSize() + spliterator.estimateSize(), is((long) COUNT));
+        assertThat(spliterator.hasCharacteristics(Spliterator.SUBSIZED), is(true));
+    }
+
+    @Test
+    public void recordsAreTheRecordsOfAt() {
+        final Faker faker = new Faker(new Random(42));
+        final List<String> records = faker.stream(10, f -> f.name().fullName()).collect(Collectors.toList());
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(faker.at(i).name().fullName(), is(records.get(i)));
+        }
+    }
+
+    @Test
+    public void seekGivesTheRecordsOfAt() {
+        final Faker faker = new Faker(new Random(42));
+        final List<String> records = faker.stream(COUNT, f -> f.name().fullName()).collect(Collectors.toList());
+        final Faker record = faker.at(0);
+        for (int i = COUNT - 1; i >= 0; i -= 7) {
+            assertThat(record.seek(i).name().fullName(), is(records.get(i)));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void onlyRecordFakersSeek() {
+        new Faker().seek(1);
+    }
+
+    @Test
+    public void recordsShareTheUniqueValuesOfTheDataSet() {
+        final Faker faker = new Faker(new Random(42));
+        final List<Integer> values = faker
+                .stream(COUNT, f -> f.unique().get(() -> f.number().numberBetween(0, 3 * COUNT)))
+                .parallel()
+                .collect(Collectors.toList());
+        assertThat(new HashSet<>(values), hasSize(COUNT));
+        assertThat(faker.unique().size(), is((long) COUNT));
+        try {
+            faker.at(COUNT).unique().maxRetries(1).get(() -> values.get(0));
+            fail("The value was returned by another record");
+        } catch (IllegalStateException expected) {
+            assertThat(faker.unique().size(), is((long) COUNT));
+        }
+    }
+
+    @Test
+    public void streamsOfTheSameFakerHaveTheSameRecords() {
+        final Faker faker = new Faker();
+        assertThat(faker.stream(10, f -> f.name().fullName()).collect(Collectors.toList()),
+                is(faker.stream(10, f -> f.name().fullName()).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void splitAfterPartialTraversalKeepsRecords() {
+        final List<Integer> expected = collect(new FakeSpliterator<>(DATASET, 1, f -> f.random().nextInt(1000), 0, COUNT));
+
+        final FakeSpliterator<Integer> spliterator = new FakeSpliterator<>(DATASET, 1, f -> f.random().nextInt(1000), 0, COUNT);
+        final List<Integer> actual = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            spliterator.tryAdvance(actual::add);
+        }
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        prefix.forEachRemaining(actual::add);
+        spliterator.forEachRemaining(actual::add);
+        assertThat(actual, is(expected));
+    }
+
+    @Test
+    public void smallRangeIsNotSplit() {
+        assertThat(new FakeSpliterator<>(DATASET, 1, f -> f, 0, 2 * FakeSpliterator.MIN_SPLIT_SIZE - 1).trySplit(), is(nullValue()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeCountIsRejected() {
+        new Faker().stream(-1, f -> f);
+    }
+
+    private static <T> List<T> collect(Spliterator<T> spliterator) {
+        final List<T> result = new ArrayList<>();
+        spliterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    @Test
+    public void recordsUseTheFakeValuesServiceOfTheFaker() {
+        final RandomService random = new RandomService(new Random(42));
+        final Faker faker = new Faker(new ColorValuesService(random), random);
+        final List<String> sequential = faker.stream(COUNT, f -> f.resolve("custom.color") + f.numerify("-##"))
+                .collect(Collectors.toList());
+        final List<String> parallel = faker.stream(COUNT, f -> f.resolve("custom.color") + f.numerify("-##"))
+                .parallel()
+                .collect(Collectors.toList());
+        assertThat(parallel, is(sequential));
+        final List<String> colors = sequential.stream().map(r -> r.substring(0, r.indexOf('-'))).collect(Collectors.toList());
+        assertThat(colors, everyItem(isIn(ColorValuesService.COLORS)));
+        for (int i = 0; i < COUNT; i += 97) {
+            final Faker record = faker.at(i);
+            assertThat(record.resolve("custom.color") + record.numerify("-##"), is(sequential.get(i)));
+        }
+    }
+
+    /**
+     * A dictionary which can't be loaded from the locale.
+     */
+    private static final class ColorValuesService extends FakeValuesService {
+        static final List<String> COLORS = Arrays.asList("teal", "ochre", "umber");
+
+        ColorValuesService(RandomService random) {
+            super(Locale.ENGLISH, random);
+        }
+
+        private ColorValuesService(ColorValuesService other, RandomService random) {
+            super(random, other);
+        }
+
+        @Override
+        public Object fetchObject(String key) {
+            return "custom.color".equals(key) ? COLORS : super.fetchObject(key);
+        }
+
+        @Override
+        public FakeValuesService withRandomService(RandomService random) {
+            return new ColorValuesService(this, random);
+        }
+    }
+}
@@ -3,12 +3,17 @@ package net.datafaker;
 import net.datafaker.repeating.Repeat;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
@@ -169,6 +174,38 @@ public class FakerTest extends AbstractFakerTest {
                 matchesRegularExpression("[0-9]{2} [0-9]{3} [0-9]{2}:[0-9]{2}:[0-9]{2}"));
     }
 
+    @Test
+    public void expressionOfKeyWithRelativeDirectives() {
+        assertThat(faker.expression("#{name.first_name}"), matchesRegularExpression("[a-zA-Z']+"));
+        assertThat(faker.expression("#{address.city}"), not(emptyString()));
+    }
+
+    @Test
+    public void expressions() {
+        final List<String> names = faker.expressions("#{Name.first_name} #{Name.last_name}", 100);
+        assertThat(names, hasSize(100));
+        assertThat(names, everyItem(matchesRegularExpression("[a-zA-Z']+ [a-zA-Z']+")));
+        assertThat(faker.expressions("no directive", 3), everyItem(is("no directive")));
+    }
+
+    @Test
+    public void expressionsShouldGenerateSameValuesAsExpression() {
+        final String expression = "#{Name.first_name} #{number.number_between '1','10'}";
+        final List<String> expected = new ArrayList<>();
+        final Faker first = new Faker(new Random(1));
+        for (int i = 0; i < 10; i++) {
+            expected.add(first.expression(expression));
+        }
+        assertThat(new Faker(new Random(1)).expressions(expression, 10), is(expected));
+    }
+
+    @Test
+    public void stream() {
+        final List<String> names = faker.stream(() -> faker.name().firstName()).limit(10).collect(Collectors.toList());
+        assertThat(names, hasSize(10));
+        assertThat(names, everyItem(not(emptyString())));
+    }
+
     @Test
     @Repeat(times = 100)
     public void numberBetweenRepeated() {
@@ -1,5 +1,6 @@
 package net.datafaker;
 
+import net.datafaker.checksum.Iban;
 import org.apache.commons.validator.routines.checkdigit.LuhnCheckDigit;
 import org.junit.Test;
 
@@ -30,7 +31,9 @@ public class FinanceTest extends AbstractFakerTest {
     @Test
     public void iban() {
         for (int i = 0; i < 100; i++) {
-            assertThat(faker.finance().iban(), matchesRegularExpression("[A-Z]{2}\\p{Alnum}{13,30}"));
+            final String iban = faker.finance().iban();
+            assertThat(iban, matchesRegularExpression("[A-Z]{2}\\p{Alnum}{13,30}"));
+            assertThat(iban + " has valid check digits", Iban.isValid(iban), is(true));
         }
     }
 
@@ -24,6 +24,14 @@ public class IdNumberTest extends AbstractFakerTest {
         assertThat(faker.idNumber().valid(), matchesRegularExpression("[0-8]\\d{2}-\\d{2}-\\d{4}"));
     }
 
+    @Test
+    public void testEnSsnValid() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(faker.idNumber().ssnValid(),
+                matchesRegularExpression("(?!000|666)[0-8]\\d{2}-(?!00)\\d{2}-(?!0000)\\d{4}"));
+        }
+    }
+
     @Test
     public void testValidSwedishSsn() {
         final Faker f = new Faker(new Locale("sv_SE"));
@@ -0,0 +1,124 @@
+package net.datafaker;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+public class IdentifierTest extends AbstractFakerTest {
+
+    @Test
+    public void uuidIsVersion4() {
+        final UUID uuid = UUID.fromString(faker.identifier().uuid());
+        assertThat(uuid.version(), is(4));
+        assertThat(uuid.variant(), is(2));
+        assertThat(faker.identifier().uuid(), matchesRegularExpression("[0-9a-f]{8}-[0-9a-f]{4}-4[0-9a-f]{3}-[89ab][0-9a-f]{3}-[0-9a-f]{12}"));
+    }
+
+    @Test
+    public void identifiersAreReproducibleWithSeed() {
+        final Identifier first = new Faker(new Random(3)).identifier();
+        final Identifier second = new Faker(new Random(3)).identifier();
+        assertThat(first.uuid(), is(second.uuid()));
+        assertThat(first.uuidV7(), is(second.uuidV7()));
+        assertThat(first.ulid(), is(second.ulid()));
+        assertThat(first.ksuid(), is(second.ksuid()));
+        assertThat(first.snowflake(), is(second.snowflake()));
+    }
+
+    @Test
+    public void recordIdentifiersDontDependOnHowTheDataSetIsGenerated() {
+        final int count = 2_000;
+        final Function<Faker, String> record = f -> f.identifier().ulid() + f.identifier().snowflake()
+                + f.identifier().uuidV7() + f.identifier().ulid();
+        final Faker faker = new Faker(new Random(9));
+        final List<String> sequential = faker.stream(count, record).collect(Collectors.toList());
+        assertThat(faker.stream(count, record).parallel().collect(Collectors.toList()), is(sequential));
+        assertThat(new Faker(new Random(9)).stream(count, record).collect(Collectors.toList()), is(sequential));
+        for (int i = 0; i < count; i += 251) {
+            assertThat(record.apply(faker.at(i)), is(sequential.get(i)));
+        }
+    }
+
+    @Test
+    public void recordIdentifiersIncreaseWithTheRecord() {
+        final Faker faker = new Faker(new Random(9));
+        final List<String> ulids = faker.stream(5_000, f -> f.identifier().ulid() + " " + f.identifier().ulid())
+                .flatMap(r -> Stream.of(r.split(" ")))
+                .collect(Collectors.toList());
+        for (int i = 1; i < ulids.size(); i++) {
+            assertThat(ulids.get(i), is(greaterThan(ulids.get(i - 1))));
+        }
+        final long[] snowflakes = faker.stream(5_000, f -> f.identifier().snowflake())
+                .mapToLong(Long::longValue)
+                .toArray();
+        for (int i = 1; i < snowflakes.length; i++) {
+            assertThat(snowflakes[i], is(greaterThan(snowflakes[i - 1])));
+        }
+    }
+
+    @Test
+    public void uuidV7IsTimeOrdered() {
+        final String first = faker.identifier().uuidV7();
+        final UUID uuid = UUID.fromString(first);
+        assertThat(uuid.version(), is(7));
+        assertThat(uuid.variant(), is(2));
+        assertThat(uuid.getMostSignificantBits() >>> 16, is(both(greaterThanOrEqualTo(Identifier.CLOCK_START))
+                .and(lessThan(Identifier.CLOCK_START + Identifier.CLOCK_RANGE + 1000))));
+        assertIncreasing(() -> faker.identifier().uuidV7());
+    }
+
+    @Test
+    public void ulidIsTimeOrdered() {
+        final String ulid = faker.identifier().ulid();
+        assertThat(ulid, matchesRegularExpression("[0-7][0-9A-HJKMNP-TV-Z]{25}"));
+        long millis = 0;
+        for (int i = 0; i < 10; i++) {
+            millis = millis * 32 + "0123456789ABCDEFGHJKMNPQRSTVWXYZ".indexOf(ulid.charAt(i));
+        }
+        assertThat(millis, is(both(greaterThanOrEqualTo(Identifier.CLOCK_START))
+                .and(lessThan(Identifier.CLOCK_START + Identifier.CLOCK_RANGE + 1000))));
+        assertIncreasing(() -> faker.identifier().ulid());
+    }
+
+    @Test
+    public void ksuidIsTimeOrdered() {
+        assertThat(faker.identifier().ksuid(), matchesRegularExpression("[0-9A-Za-z]{27}"));
+        assertIncreasing(() -> faker.identifier().ksuid());
+    }
+
+    @Test
+    public void snowflakeIsTimeOrdered() {
+        long previous = faker.identifier().snowflake();
+        for (int i = 0; i < 5_000; i++) {
+            final long next = faker.identifier().snowflake();
+            assertThat(next, is(greaterThan(previous)));
+            previous = next;
+        }
+    }
+
+    /**
+     * Over more than 4,096 identifiers, so that the clock advances.
+     */
+    private static void assertIncreasing(Supplier<String> ids) {
+        String previous = ids.get();
+        for (int i = 0; i < 5_000; i++) {
+            final String next = ids.get();
+            assertThat(next + " > " + previous, next.compareTo(previous) > 0, is(true));
+            previous = next;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -469,4 +470,191 @@ public class NumberTest extends AbstractFakerTest {
             }
         }
     }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void numberBetweenMaxLessThanMin() {
+        faker.number().numberBetween(10, 5);
+    }
+
+    @Test
+    public void numberBetweenFullLongRange() {
+        final Number number = new Faker(new Random(1)).number();
+        int negative = 0;
+        for (int i = 0; i < 1000; i++) {
+            final long value = number.numberBetween(Long.MIN_VALUE, Long.MAX_VALUE);
+            assertThat(value, is(lessThan(Long.MAX_VALUE)));
+            if (value < 0) {
+                negative++;
+            }
+        }
+        assertThat(negative, is(greaterThan(400)));
+        assertThat(negative, is(lessThan(600)));
+    }
+
+    @Test
+    public void numberBetweenFullIntRange() {
+        final Number number = new Faker(new Random(1)).number();
+        int negative = 0;
+        for (int i = 0; i < 1000; i++) {
+            final int value = number.numberBetween(Integer.MIN_VALUE, Integer.MAX_VALUE);
+            assertThat(value, is(lessThan(Integer.MAX_VALUE)));
+            if (value < 0) {
+                negative++;
+            }
+        }
+        assertThat(negative, is(greaterThan(400)));
+        assertThat(negative, is(lessThan(600)));
+    }
+
+    @Test
+    public void bulkInts() {
+        final Number number = new Faker(new Random(1)).number();
+        final int[] values = new int[10_000];
+        number.ints(values, -3, 4);
+        final int[] counts = new int[7];
+        for (int value : values) {
+            counts[value + 3]++;
+        }
+        for (int count : counts) {
+            assertThat(count, is(greaterThan(1200)));
+            assertThat(count, is(lessThan(1650)));
+        }
+    }
+
+    @Test
+    public void bulkLongsAndDoubles() {
+        final Number number = new Faker(new Random(1)).number();
+        final long[] longs = new long[1000];
+        number.longs(longs, 1L << 40, 1L << 41);
+        for (long value : longs) {
+            assertThat(value, is(greaterThanOrEqualTo(1L << 40)));
+            assertThat(value, is(lessThan(1L << 41)));
+        }
+        final double[] doubles = new double[1000];
+        number.doubles(doubles, -1.5, 2.5);
+        for (double value : doubles) {
+            assertThat(value, is(greaterThanOrEqualTo(-1.5)));
+            assertThat(value, is(lessThan(2.5)));
+        }
+    }
+
+    @Test
+    public void streams() {
+        final Number number = new Faker(new Random(1)).number();
+        assertThat(number.ints(1000, 0, 10).filter(v -> v < 0 || v >= 10).count(), is(0L));
+        assertThat(number.ints(1000, 0, 10).distinct().count(), is(10L));
+        assertThat(number.longs(100, 7, 7).allMatch(v -> v == 7), is(true));
+        assertThat(number.doubles(1000, 0, 1).filter(v -> v < 0 || v >= 1).count(), is(0L));
+        assertThat(number.ints(0, 0, 10).count(), is(0L));
+    }
+
+    @Test
+    public void sameSeedSameNumbers() {
+        final int[] first = new int[100];
+        final int[] second = new int[100];
+        new Faker(new Random(7)).number().ints(first, 0, 1000);
+        final Number number = new Faker(new Random(7)).number();
+        for (int i = 0; i < second.length; i++) {
+            second[i] = number.numberBetween(0, 1000);
+        }
+        assertThat(first, is(second));
+    }
+
+    @Test
+    public void distributions() {
+        final Number number = new Faker(new Random(1)).number();
+        final int count = 50_000;
+        double normal = 0;
+        double logNormal = 0;
+        double exponential = 0;
+        double pareto = 0;
+        double poisson = 0;
+        int firstRank = 0;
+        for (int i = 0; i < count; i++) {
+            normal += number.normal(100, 15);
+            final double amount = number.logNormal(3, 0.5);
+            assertThat(amount, greaterThan(0.0));
+            logNormal += Math.log(amount);
+            exponential += number.exponential(4);
+            final double value = number.pareto(2, 3);
+            assertThat(value, greaterThanOrEqualTo(2.0));
+            pareto += value;
+            poisson += number.poisson(7);
+            final long rank = number.zipf(1_000, 1.2);
+            assertThat(rank >= 1 && rank <= 1_000, is(true));
+            if (rank == 1) firstRank++;
+        }
+        assertEquals(100, normal / count, 0.3);
+        assertEquals(3, logNormal / count, 0.01);
+        assertEquals(0.25, exponential / count, 0.005);
+        // shape * scale / (shape - 1)
+        assertEquals(3, pareto / count, 0.05);
+        assertEquals(7, poisson / count, 0.05);
+        // 1 / H(1000, 1.2)
+        assertEquals(0.2305, firstRank / (double) count, 0.01);
+    }
+
+    @Test
+    public void distributionsSameSeedSameValues() {
+        final Number first = new Faker(new Random(5)).number();
+        final Number second = new Faker(new Random(5)).number();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.normal(), second.normal(), 0);
+            assertThat(first.poisson(i % 3 == 0 ? 2 : 200), is(second.poisson(i % 3 == 0 ? 2 : 200)));
+            assertThat(first.zipf(10 + i % 2, 1), is(second.zipf(10 + i % 2, 1)));
+        }
+    }
+
+    @Test
+    public void samplersDrawTheValuesOfTheDistributions() {
+        final Number first = new Faker(new Random(5)).number();
+        final Number second = new Faker(new Random(5)).number();
+        final LongSupplier small = first.poissonSampler(2);
+        final LongSupplier large = first.poissonSampler(200);
+        final LongSupplier ranks = first.zipfSampler(10, 1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(small.getAsLong(), is(second.poisson(2)));
+            assertThat(large.getAsLong(), is(second.poisson(200)));
+            assertThat(ranks.getAsLong(), is(second.zipf(10, 1)));
+        }
+    }
+
+    @Test
+    public void degenerateDistributions() {
+        final Number number = new Faker(new Random(1)).number();
+        assertEquals(5, number.normal(5, 0), 0);
+        assertEquals(1, number.logNormal(0, 0), 0);
+        assertThat(number.poisson(0), is(0L));
+        assertThat(number.zipf(1, 2), is(1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeStandardDeviation() {
+        faker.number().normal(0, -1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroRate() {
+        faker.number().exponential(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroParetoShape() {
+        faker.number().pareto(1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativePoissonMean() {
+        faker.number().poisson(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zipfWithoutElements() {
+        faker.number().zipf(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zipfSamplerWithoutElements() {
+        faker.number().zipfSampler(0, 1);
+    }
 }
@@ -4,9 +4,11 @@ import net.datafaker.repeating.Repeat;
 import org.junit.Test;
 
 import java.util.Date;
+import java.util.Random;
 
 import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -53,6 +55,23 @@ public class TwitterTest extends AbstractFakerTest {
         assertEquals(generatedID.length(), expectedLength);
     }
 
+    @Test
+    public void twitterIdIsRandomDigits() {
+        final Twitter twitter = new Faker(new Random(1)).twitter();
+        int increasing = 0;
+        String previous = twitter.twitterId(15);
+        for (int i = 0; i < 100; i++) {
+            final String id = twitter.twitterId(15);
+            assertThat(id, matchesRegularExpression("[1-9][0-9]{14}"));
+            if (id.compareTo(previous) > 0) {
+                increasing++;
+            }
+            previous = id;
+        }
+        // not a sequence
+        assertThat(increasing, lessThan(90));
+    }
+
     @Test
     public void testTwitterIdUnique() {
         int expectedLength = 15;
@@ -0,0 +1,133 @@
+package net.datafaker;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+public class UniqueTest extends AbstractFakerTest {
+
+    @Test
+    public void valuesDoNotRepeat() {
+        final Set<Integer> values = new HashSet<>();
+        for (int i = 0; i < 500; i++) {
+            assertThat(values.add(faker.unique().get(() -> faker.number().numberBetween(0, 1_000))), is(true));
+        }
+        assertThat(faker.unique().size(), is(500L));
+    }
+
+    @Test
+    public void yamlKeysDoNotRepeat() {
+        final Set<String> values = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            assertThat(values.add(faker.unique().fetchFromYaml("address.state")), is(true));
+        }
+    }
+
+    @Test
+    public void scopesAreIndependent() {
+        assertThat(faker.unique().get("a", () -> "x"), is("x"));
+        assertThat(faker.unique().get("b", () -> "x"), is("x"));
+    }
+
+    @Test
+    public void exhaustionFailsAfterMaxRetries() {
+        final Unique unique = faker.unique().maxRetries(10);
+        unique.get(() -> true);
+        unique.get(() -> false);
+        final int[] attempts = {0};
+        try {
+            unique.get(() -> attempts[0]++ % 2 == 0);
+            fail("Expected exhaustion");
+        } catch (IllegalStateException e) {
+            assertThat(e.getMessage(), containsString("after 10 attempts"));
+        }
+        assertThat(attempts[0], is(10));
+    }
+
+    @Test
+    public void clearForgetsValues() {
+        faker.unique().get(() -> "x");
+        faker.unique().clear();
+        assertThat(faker.unique().get(() -> "x"), is("x"));
+        assertThat(faker.unique(), is(sameInstance(faker.unique())));
+    }
+
+    @Test
+    public void setGrowsAndKeepsFingerprints() {
+        final FingerprintSet set = new FingerprintSet();
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(set.add(Unique.fingerprint(0, Long.toString(i))), is(true));
+        }
+        for (long i = 0; i < 100_000; i++) {
+            assertThat(set.contains(Unique.fingerprint(0, Long.toString(i))), is(true));
+            assertThat(set.add(Unique.fingerprint(0, Long.toString(i))), is(false));
+        }
+        assertThat(set.size(), is(100_000L));
+        assertThat(set.add(0), is(true));
+        assertThat(set.contains(1), is(true));
+    }
+
+    @Test
+    public void rangeReturnsEveryNumberOnce() {
+        final UniqueSequence<Integer> sequence = faker.unique().range(10, 1_010);
+        final Set<Integer> values = new HashSet<>();
+        while (sequence.hasNext()) {
+            final int value = sequence.next();
+            assertThat(value >= 10 && value < 1_010, is(true));
+            assertThat(values.add(value), is(true));
+        }
+        assertThat(values.size(), is(1_000));
+        try {
+            sequence.next();
+            fail("Expected exhaustion");
+        } catch (NoSuchElementException e) {
+            assertThat(e.getMessage(), containsString("1000"));
+        }
+    }
+
+    @Test
+    public void patternsReturnEveryStringOnce() {
+        final UniqueSequence<String> numbers = faker.unique().numerify("#-##");
+        assertThat(numbers.size(), is(1_000L));
+        assertThat(numbers.stream().distinct().filter(s -> s.matches("\\d-\\d\\d")).count(), is(1_000L));
+
+        final UniqueSequence<String> codes = faker.unique().bothify("??#", true);
+        assertThat(codes.size(), is(6_760L));
+        assertThat(codes.stream().distinct().filter(s -> s.matches("[A-Z]{2}\\d")).count(), is(6_760L));
+    }
+
+    @Test
+    public void yamlListReturnsEveryValueOnce() {
+        final UniqueSequence<String> names = faker.unique().fromYaml("name.first_name");
+        final List<String> values = names.stream().collect(Collectors.toList());
+
+        assertThat(new HashSet<>(values).size(), is(values.size()));
+        assertThat(values, hasItems("Aaron", "Abbey"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void yamlExpressionsCannotBeEnumerated() {
+        faker.unique().fromYaml("name.name");
+    }
+
+    @Test
+    public void sameSeedGivesSameSequence() {
+        final UniqueSequence<Long> first = new Faker(new Random(5)).unique().range(0L, 1L << 40);
+        final UniqueSequence<Long> second = new Faker(new Random(5)).unique().range(0L, 1L << 40);
+        for (long i = 0; i < 10; i++) {
+            assertThat(first.get(1_000_000 + i), is(second.get(1_000_000 + i)));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package net.datafaker;
 
+import net.datafaker.checksum.Vin;
 import net.datafaker.matchers.MatchesRegularExpression;
 import org.junit.Test;
 
@@ -11,6 +12,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.core.Is.is;
 
 public class VehicleTest extends AbstractFakerTest {
 
@@ -20,7 +22,11 @@ public class VehicleTest extends AbstractFakerTest {
 
     @Test
     public void testVin() {
-        assertThat(faker.vehicle().vin(), matchesRegularExpression(Vehicle.VIN_REGEX));
+        for (int i = 0; i < 100; i++) {
+            final String vin = faker.vehicle().vin();
+            assertThat(vin, matchesRegularExpression(Vehicle.VIN_REGEX));
+            assertThat(vin + " has a valid check digit", Vin.isValid(vin), is(true));
+        }
     }
 
     @Test
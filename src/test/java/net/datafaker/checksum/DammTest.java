@@ -0,0 +1,35 @@
+package net.datafaker.checksum;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class DammTest {
+
+    @Test
+    public void checkDigit() {
+        assertThat(Damm.checkDigit("572".toCharArray(), 0, 3), is(4));
+        assertThat(Damm.isValid("5724"), is(true));
+        assertThat(Damm.isValid("5742"), is(false));
+    }
+
+    @Test
+    public void detectsAdjacentTranspositions() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final char[] chars = LuhnTest.digits(random, 10);
+            chars[9] = (char) ('0' + Damm.checkDigit(chars, 0, 9));
+            assertThat(Damm.isValid(chars, 0, 10), is(true));
+            final int j = random.nextInt(9);
+            if (chars[j] != chars[j + 1]) {
+                final char c = chars[j];
+                chars[j] = chars[j + 1];
+                chars[j + 1] = c;
+                assertThat(Damm.isValid(chars, 0, 10), is(false));
+            }
+        }
+    }
+}
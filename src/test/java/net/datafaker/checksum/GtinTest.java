@@ -0,0 +1,44 @@
+package net.datafaker.checksum;
+
+import org.apache.commons.validator.routines.checkdigit.EAN13CheckDigit;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class GtinTest {
+
+    @Test
+    public void checkDigit() {
+        assertThat(Gtin.checkDigit("400638133393".toCharArray(), 0, 12), is(1));
+        assertThat(Gtin.checkDigit("9638507".toCharArray(), 0, 7), is(4));
+        assertThat(Gtin.checkDigit("03600029145".toCharArray(), 0, 11), is(2));
+        assertThat(Gtin.checkDigit(400638133393L), is(1));
+        assertThat(Gtin.checkDigit(3600029145L), is(2));
+    }
+
+    @Test
+    public void isValid() {
+        assertThat(Gtin.isValid("4006381333931"), is(true));
+        assertThat(Gtin.isValid("96385074"), is(true));
+        assertThat(Gtin.isValid("4006381333932"), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativePayload() {
+        Gtin.checkDigit(-1L);
+    }
+
+    @Test
+    public void sameAsCommonsValidator() throws Exception {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final char[] chars = LuhnTest.digits(random, 1 + random.nextInt(17));
+            final String expected = EAN13CheckDigit.EAN13_CHECK_DIGIT.calculate(new String(chars));
+            assertThat(String.valueOf(Gtin.checkDigit(chars, 0, chars.length)), is(expected));
+            assertThat(String.valueOf(Gtin.checkDigit(Long.parseLong(new String(chars)))), is(expected));
+        }
+    }
+}
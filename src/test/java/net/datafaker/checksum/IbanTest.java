@@ -0,0 +1,51 @@
+package net.datafaker.checksum;
+
+import org.apache.commons.validator.routines.checkdigit.IBANCheckDigit;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class IbanTest {
+
+    @Test
+    public void checkDigits() {
+        assertThat(Iban.checkDigits("GB", "WEST12345698765432"), is(82));
+        assertThat(Iban.checkDigits("DE", "370400440532013000"), is(89));
+        assertThat(Iban.checkDigits("BE", "539007547034"), is(68));
+    }
+
+    @Test
+    public void mod97IsIncremental() {
+        final char[] chars = "370400440532013000DE00".toCharArray();
+        final int remainder = Iban.mod97(Iban.mod97(0, chars, 0, 9), chars, 9, chars.length);
+        assertThat(remainder, is(Iban.mod97(0, "370400440532013000DE00")));
+        assertThat(remainder, is(98 - 89));
+    }
+
+    @Test
+    public void isValid() {
+        assertThat(Iban.isValid("GB82WEST12345698765432"), is(true));
+        assertThat(Iban.isValid("DE89370400440532013000"), is(true));
+        assertThat(Iban.isValid("DE88370400440532013000"), is(false));
+        assertThat(Iban.isValid("DE89 3704"), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCharacter() {
+        Iban.mod97(0, "12-34");
+    }
+
+    @Test
+    public void sameAsCommonsValidator() throws Exception {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final String bban = new String(LuhnTest.digits(random, 10 + random.nextInt(20)));
+            final String countryCode = "" + (char) ('A' + random.nextInt(26)) + (char) ('A' + random.nextInt(26));
+            final String expected = IBANCheckDigit.IBAN_CHECK_DIGIT.calculate(countryCode + "00" + bban);
+            assertThat(String.format("%02d", Iban.checkDigits(countryCode, bban)), is(expected));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package net.datafaker.checksum;
+
+import org.apache.commons.validator.routines.checkdigit.ISBN10CheckDigit;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class IsbnTest {
+
+    @Test
+    public void isbn10() {
+        assertThat(Isbn.checkChar10("0-306-40615-".toCharArray(), 0, 12), is('2'));
+        assertThat(Isbn.checkChar10("080442957".toCharArray(), 0, 9), is('X'));
+        assertThat(Isbn.isValid10("0-306-40615-2"), is(true));
+        assertThat(Isbn.isValid10("080442957X"), is(true));
+        assertThat(Isbn.isValid10("0306406153"), is(false));
+        assertThat(Isbn.isValid10("030640615"), is(false));
+    }
+
+    @Test
+    public void isbn13() {
+        assertThat(Isbn.checkDigit13("978-0-306-40615-".toCharArray(), 0, 16), is(7));
+        assertThat(Isbn.isValid13("978-0-306-40615-7"), is(true));
+        assertThat(Isbn.isValid13("9780306406158"), is(false));
+        assertThat(Isbn.isValid13("96385074"), is(false));
+    }
+
+    @Test
+    public void sameAsCommonsValidator() throws Exception {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final char[] chars = LuhnTest.digits(random, 9);
+            final String expected = ISBN10CheckDigit.ISBN10_CHECK_DIGIT.calculate(new String(chars));
+            assertThat(String.valueOf(Isbn.checkChar10(chars, 0, chars.length)), is(expected));
+        }
+    }
+}
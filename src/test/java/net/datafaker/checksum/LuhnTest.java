@@ -0,0 +1,48 @@
+package net.datafaker.checksum;
+
+import org.apache.commons.validator.routines.checkdigit.LuhnCheckDigit;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class LuhnTest {
+
+    @Test
+    public void checkDigit() {
+        assertThat(Luhn.checkDigit("7992739871".toCharArray(), 0, 10), is(3));
+        assertThat(Luhn.checkDigit("4111-1111-1111-111".toCharArray(), 0, 18), is(1));
+    }
+
+    @Test
+    public void isValid() {
+        assertThat(Luhn.isValid("79927398713"), is(true));
+        assertThat(Luhn.isValid("4111 1111 1111 1111"), is(true));
+        assertThat(Luhn.isValid("79927398714"), is(false));
+        assertThat(Luhn.isValid("0"), is(false));
+    }
+
+    @Test
+    public void sameAsCommonsValidator() throws Exception {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final char[] chars = digits(random, 1 + random.nextInt(20));
+            final String expected = LuhnCheckDigit.LUHN_CHECK_DIGIT.calculate(new String(chars));
+            assertThat(String.valueOf(Luhn.checkDigit(chars, 0, chars.length)), is(expected));
+        }
+    }
+
+    /**
+     * @return random digits, the first one not 0 as commons-validator rejects numbers which are 0
+     */
+    static char[] digits(Random random, int length) {
+        final char[] chars = new char[length];
+        chars[0] = (char) ('1' + random.nextInt(9));
+        for (int i = 1; i < length; i++) {
+            chars[i] = (char) ('0' + random.nextInt(10));
+        }
+        return chars;
+    }
+}
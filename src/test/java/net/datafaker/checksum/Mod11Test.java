@@ -0,0 +1,34 @@
+package net.datafaker.checksum;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class Mod11Test {
+
+    @Test
+    public void cpf() {
+        final char[] cpf = "529982247__".toCharArray();
+        Mod11.putCpfCheckDigits(cpf, 0);
+        assertThat(new String(cpf), is("52998224725"));
+        assertThat(Mod11.isValidCpf("529.982.247-25"), is(true));
+        assertThat(Mod11.isValidCpf("529.982.247-26"), is(false));
+        assertThat(Mod11.isValidCpf("529.982.247-2"), is(false));
+    }
+
+    @Test
+    public void cnpj() {
+        final char[] cnpj = "112223330001__".toCharArray();
+        Mod11.putCnpjCheckDigits(cnpj, 0);
+        assertThat(new String(cnpj), is("11222333000181"));
+        assertThat(Mod11.isValidCnpj("11.222.333/0001-81"), is(true));
+        assertThat(Mod11.isValidCnpj("11.222.333/0001-82"), is(false));
+        assertThat(Mod11.isValidCnpj("11.222.333/0001-811"), is(false));
+    }
+
+    @Test
+    public void portugueseNif() {
+        assertThat(Mod11.checkDigit("12345678".toCharArray(), 0, 8, Mod11.NO_CYCLE), is(9));
+    }
+}
@@ -0,0 +1,30 @@
+package net.datafaker.checksum;
+
+import org.apache.commons.validator.routines.checkdigit.VerhoeffCheckDigit;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class VerhoeffTest {
+
+    @Test
+    public void checkDigit() {
+        assertThat(Verhoeff.checkDigit("236".toCharArray(), 0, 3), is(3));
+        assertThat(Verhoeff.isValid("2363"), is(true));
+        assertThat(Verhoeff.isValid("2336"), is(false));
+        assertThat(Verhoeff.isValid("2364"), is(false));
+    }
+
+    @Test
+    public void sameAsCommonsValidator() throws Exception {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1000; i++) {
+            final char[] chars = LuhnTest.digits(random, 1 + random.nextInt(20));
+            final String expected = VerhoeffCheckDigit.VERHOEFF_CHECK_DIGIT.calculate(new String(chars));
+            assertThat(String.valueOf(Verhoeff.checkDigit(chars, 0, chars.length)), is(expected));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package net.datafaker.checksum;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+public class VinTest {
+
+    @Test
+    public void checkChar() {
+        assertThat(Vin.checkChar("1M8GDM9A_KP042788".toCharArray(), 0), is('X'));
+        assertThat(Vin.checkChar("11111111_11111111".toCharArray(), 0), is('1'));
+        assertThat(Vin.checkChar("xx1HGCM82633A004352".toCharArray(), 2), is('3'));
+    }
+
+    @Test
+    public void isValid() {
+        assertThat(Vin.isValid("1M8GDM9AXKP042788"), is(true));
+        assertThat(Vin.isValid("1HGCM82633A004352"), is(true));
+        assertThat(Vin.isValid("1HGCM82643A004352"), is(false));
+        assertThat(Vin.isValid("1HGCM82633A00435"), is(false));
+        assertThat(Vin.isValid("1OGCM82633A004352"), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void letterNotAllowed() {
+        Vin.checkChar("1HGCM826_3A00435I".toCharArray(), 0);
+    }
+}
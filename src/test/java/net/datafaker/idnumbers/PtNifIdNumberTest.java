@@ -23,18 +23,18 @@ public class PtNifIdNumberTest {
     @Test
     public void testInValid() {
         PtNifIdNumber idNumber = new PtNifIdNumber();
-        assertEquals("7202838711", idNumber.getInvalid(faker));
+        assertEquals("7424062312", idNumber.getInvalid(faker));
     }
 
     @Test
     public void testValid() {
         PtNifIdNumber idNumber = new PtNifIdNumber();
-        assertEquals("346336848", idNumber.getValid(faker));
+        assertEquals("324062389", idNumber.getValid(faker));
     }
 
     @Test
     public void testValidWithFaker() {
-        assertEquals("346336848", faker.idNumber().valid());
+        assertEquals("324062389", faker.idNumber().valid());
     }
 
 }
@@ -1,7 +1,10 @@
 package net.datafaker.idnumbers;
 
+import net.datafaker.Faker;
 import org.junit.Test;
 
+import java.util.Locale;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 
@@ -24,4 +27,14 @@ public class SwedishIdNumberTest {
         assertThat(idNumber.validSwedishSsn("811200-9874"), is(false));
         assertThat(idNumber.validSwedishSsn("810028-9874"), is(false));
     }
+
+    @Test
+    public void generated() {
+        SvSEIdNumber idNumber = new SvSEIdNumber();
+        Faker f = new Faker(new Locale("sv_SE"));
+        for (int i = 0; i < 100; i++) {
+            assertThat(idNumber.validSwedishSsn(f.idNumber().valid()), is(true));
+            assertThat(idNumber.validSwedishSsn(f.idNumber().invalid()), is(false));
+        }
+    }
 }
@@ -0,0 +1,114 @@
+package net.datafaker.output;
+
+import net.datafaker.AbstractFakerTest;
+import net.datafaker.Faker;
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Schema;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class CsvWriterTest extends AbstractFakerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Schema textSchema = Schema.builder()
+            .column("name", f -> f.name().fullName())
+            .column("text", f -> f.lorem().sentence())
+            .build();
+
+    @Test
+    public void writesHeaderAndRecords() throws IOException {
+        final Schema schema = Schema.builder()
+                .column("name", f -> "Ann")
+                .intColumn("age", f -> 42)
+                .longColumn("id", f -> Long.MIN_VALUE)
+                .doubleColumn("score", f -> 0.5)
+                .build();
+
+        assertThat(write(CsvWriter.builder().header(true), schema, 2),
+                is("name,age,id,score\nAnn,42,-9223372036854775808,0.5\nAnn,42,-9223372036854775808,0.5\n"));
+    }
+
+    @Test
+    public void quotesValuesWithSpecialCharacters() throws IOException {
+        assertThat(write(CsvWriter.builder(), chunk("a,b", "say \"hi\"", "two\nlines", "plain", null)),
+                is("\"a,b\"\n\"say \"\"hi\"\"\"\n\"two\nlines\"\nplain\n\n"));
+    }
+
+    @Test
+    public void escapesTsvValues() throws IOException {
+        assertThat(write(CsvWriter.builder().tsv(), chunk("a\tb", "two\r\nlines", "back\\slash", "\"as is\"")),
+                is("a\\tb\ntwo\\r\\nlines\nback\\\\slash\n\"as is\"\n"));
+    }
+
+    @Test
+    public void encodesUtf8() throws IOException {
+        final String text = "Zoë – 東京 😀";
+        assertThat(write(CsvWriter.builder(), chunk(text, "\uD83D")), is(text + "\n?\n"));
+    }
+
+    @Test
+    public void outputDoesNotDependOnFlushSize() throws IOException {
+        final String expected = write(CsvWriter.builder(), textSchema, 500);
+        assertThat(write(CsvWriter.builder().flushSize(64), textSchema, 500), is(expected));
+    }
+
+    @Test
+    public void writesHeaderWithoutRecords() throws IOException {
+        assertThat(write(CsvWriter.builder().header(true), textSchema, 0), is("name,text\n"));
+    }
+
+    @Test
+    public void fileIsReplacedByTheRecords() throws IOException {
+        final Path file = folder.getRoot().toPath().resolve("people.csv");
+        Files.write(file, new byte[1 << 16]);
+        try (CsvWriter writer = CsvWriter.builder().build(file)) {
+            writer.write(textSchema, new Faker(new Random(7)), 100);
+        }
+
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+                is(write(CsvWriter.builder(), textSchema, 100)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void flushSizeMustHoldAValue() throws IOException {
+        CsvWriter.builder().flushSize(8).build(Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    private Chunk chunk(String... values) {
+        final Schema schema = Schema.builder().column("value", f -> null).build();
+        final Chunk chunk = schema.newChunk(values.length);
+        schema.fill(faker, chunk, values.length);
+        System.arraycopy(values, 0, chunk.strings(0), 0, values.length);
+        return chunk;
+    }
+
+    private String write(CsvWriter.Builder builder, Chunk chunk) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter writer = builder.build(Channels.newChannel(out))) {
+            writer.write(chunk);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private String write(CsvWriter.Builder builder, Schema schema, int rows) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (CsvWriter writer = builder.build(Channels.newChannel(out))) {
+            writer.write(schema, new Faker(new Random(7)), rows);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,125 @@
+package net.datafaker.output;
+
+import net.datafaker.AbstractFakerTest;
+import net.datafaker.Faker;
+import net.datafaker.schema.Schema;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class JsonWriterTest extends AbstractFakerTest {
+
+    private final JsonWriter.Document person = (f, json) -> {
+        json.beginObject()
+                .name("name").value(f.name().fullName())
+                .name("age").value(f.number().numberBetween(18, 100));
+        json.name("addresses").beginArray();
+        for (int i = 0; i < 2; i++) {
+            json.beginObject()
+                    .name("city").value(f.address().city())
+                    .name("zip").value(f.address().zipCode())
+                    .endObject();
+        }
+        json.endArray();
+        json.name("phones").beginArray()
+                .value(f.phoneNumber().cellPhone())
+                .value(f.phoneNumber().phoneNumber())
+                .endArray();
+        json.endObject();
+    };
+
+    @Test
+    public void writesNestedDocumentsAsJsonLines() throws IOException {
+        final String[] lines = write(JsonWriter.builder(), person, 3).split("\n");
+
+        assertThat(lines.length, is(3));
+        for (String line : lines) {
+            assertThat(line, matchesRegularExpression("\\{\"name\":\"[^\"]+\",\"age\":\\d+,"
+                    + "\"addresses\":\\[\\{\"city\":\"[^\"]+\",\"zip\":\"[^\"]+\"},\\{\"city\":\"[^\"]+\",\"zip\":\"[^\"]+\"}],"
+                    + "\"phones\":\\[\"[^\"]+\",\"[^\"]+\"]}"));
+        }
+    }
+
+    @Test
+    public void writesArrayOfDocuments() throws IOException {
+        final JsonWriter.Document document = (f, json) -> json.beginObject().name("a").value(1).endObject();
+
+        assertThat(write(JsonWriter.builder().array(true), document, 2), is("[\n{\"a\":1},\n{\"a\":1}\n]\n"));
+        assertThat(write(JsonWriter.builder().array(true), document, 0), is("[]\n"));
+    }
+
+    @Test
+    public void writesScalars() throws IOException {
+        final JsonWriter.Document document = (f, json) -> json.beginArray()
+                .value(true).value(false).nullValue().value((String) null)
+                .value(-12L).value(0.25).value(Double.NaN).value(Double.POSITIVE_INFINITY)
+                .beginObject().endObject().beginArray().endArray()
+                .endArray();
+
+        assertThat(write(JsonWriter.builder(), document, 1),
+                is("[true,false,null,null,-12,0.25,null,null,{},[]]\n"));
+    }
+
+    @Test
+    public void escapesStrings() throws IOException {
+        final JsonWriter.Document document = (f, json) -> json.beginObject()
+                .name("say \"hi\"").value("back\\slash\ttab\nline\u0001 Zoë 東京 😀")
+                .endObject();
+
+        assertThat(write(JsonWriter.builder(), document, 1),
+                is("{\"say \\\"hi\\\"\":\"back\\\\slash\\ttab\\nline\\u0001 Zoë 東京 😀\"}\n"));
+    }
+
+    @Test
+    public void writesChunksAsFlatObjects() throws IOException {
+        final Schema schema = Schema.builder()
+                .column("name", f -> "Ann")
+                .intColumn("age", f -> 42)
+                .doubleColumn("score", f -> 0.5)
+                .build();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonWriter writer = JsonWriter.builder().build(Channels.newChannel(out))) {
+            writer.write(schema, faker, 2);
+        }
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8),
+                is("{\"name\":\"Ann\",\"age\":42,\"score\":0.5}\n{\"name\":\"Ann\",\"age\":42,\"score\":0.5}\n"));
+    }
+
+    @Test
+    public void outputDoesNotDependOnFlushSize() throws IOException {
+        final String expected = write(JsonWriter.builder(), person, 200);
+        assertThat(write(JsonWriter.builder().flushSize(64), person, 200), is(expected));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void valueInObjectNeedsName() throws IOException {
+        write(JsonWriter.builder(), (f, json) -> json.beginObject().value(1), 1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void nameOutsideObjectFails() throws IOException {
+        write(JsonWriter.builder(), (f, json) -> json.beginArray().name("a"), 1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unclosedDocumentFails() throws IOException {
+        write(JsonWriter.builder(), (f, json) -> json.beginObject(), 1);
+    }
+
+    private String write(JsonWriter.Builder builder, JsonWriter.Document document, int count) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonWriter writer = builder.build(Channels.newChannel(out))) {
+            writer.write(new Faker(new Random(7)), count, document);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,91 @@
+package net.datafaker.output;
+
+import net.datafaker.AbstractFakerTest;
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Schema;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class PostgresCopyWriterTest extends AbstractFakerTest {
+
+    private final Schema schema = Schema.builder()
+            .column("name", f -> null)
+            .intColumn("age", f -> 42)
+            .longColumn("id", f -> -7L)
+            .doubleColumn("score", f -> Double.NaN)
+            .build();
+
+    @Test
+    public void writesTextFormat() throws IOException {
+        assertThat(text(PostgresCopyWriter.builder("people"), chunk("a\tb\\c\nd", null, "Zoë")),
+                is("a\\tb\\\\c\\nd\t42\t-7\tNaN\n\\N\t42\t-7\tNaN\nZoë\t42\t-7\tNaN\n"));
+    }
+
+    @Test
+    public void wrapsTextInCopyStatement() throws IOException {
+        assertThat(text(PostgresCopyWriter.builder("people").statement(true), chunk("a")),
+                is("COPY \"people\" (\"name\", \"age\", \"id\", \"score\") FROM STDIN;\na\t42\t-7\tNaN\n\\.\n"));
+    }
+
+    @Test
+    public void writesBinaryFormat() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PostgresCopyWriter writer = PostgresCopyWriter.builder("people").binary(true).build(Channels.newChannel(out))) {
+            writer.write(chunk("Zoë 😀", null));
+        }
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+
+        final byte[] signature = new byte[11];
+        in.readFully(signature);
+        assertThat(new String(signature, 0, 7, StandardCharsets.US_ASCII), is("PGCOPY\n"));
+        assertThat(in.readInt(), is(0));
+        assertThat(in.readInt(), is(0));
+
+        assertThat(in.readShort(), is((short) 4));
+        final byte[] name = new byte[in.readInt()];
+        in.readFully(name);
+        assertThat(new String(name, StandardCharsets.UTF_8), is("Zoë 😀"));
+        assertThat(in.readInt(), is(4));
+        assertThat(in.readInt(), is(42));
+        assertThat(in.readInt(), is(8));
+        assertThat(in.readLong(), is(-7L));
+        assertThat(in.readInt(), is(8));
+        assertThat(Double.isNaN(in.readDouble()), is(true));
+
+        assertThat(in.readShort(), is((short) 4));
+        assertThat(in.readInt(), is(-1));
+        in.skipBytes(4 + 4 + 4 + 8 + 4 + 8);
+
+        assertThat(in.readShort(), is((short) -1));
+        assertThat(in.read(), is(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void binaryFormatHasNoStatement() throws IOException {
+        PostgresCopyWriter.builder("t").binary(true).statement(true).build(Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    private Chunk chunk(String... names) {
+        final Chunk chunk = schema.newChunk(names.length);
+        schema.fill(faker, chunk, names.length);
+        System.arraycopy(names, 0, chunk.strings(0), 0, names.length);
+        return chunk;
+    }
+
+    private String text(PostgresCopyWriter.Builder builder, Chunk chunk) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PostgresCopyWriter writer = builder.build(Channels.newChannel(out))) {
+            writer.write(chunk);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,105 @@
+package net.datafaker.output;
+
+import net.datafaker.AbstractFakerTest;
+import net.datafaker.schema.Chunk;
+import net.datafaker.schema.Schema;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class SqlInsertWriterTest extends AbstractFakerTest {
+
+    private final Schema schema = Schema.builder()
+            .column("name", f -> null)
+            .intColumn("age", f -> 42)
+            .doubleColumn("score", f -> 0.5)
+            .build();
+
+    @Test
+    public void writesMultiRowInserts() throws IOException {
+        assertThat(write(SqlInsertWriter.builder("people"), chunk("Ann", "O'Brien", null)),
+                is("INSERT INTO \"people\" (\"name\", \"age\", \"score\") VALUES\n"
+                        + "('Ann', 42, 0.5),\n"
+                        + "('O''Brien', 42, 0.5),\n"
+                        + "(NULL, 42, 0.5);\n"));
+    }
+
+    @Test
+    public void splitsStatementsInBatches() throws IOException {
+        final String sql = write(SqlInsertWriter.builder("people").batchSize(2), chunk("a", "b", "c", "d", "e"));
+        assertThat(sql.split("INSERT INTO").length - 1, is(3));
+        assertThat(sql.endsWith("('e', 42, 0.5);\n"), is(true));
+    }
+
+    @Test
+    public void batchesSpanChunks() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SqlInsertWriter writer = SqlInsertWriter.builder("t").batchSize(3).build(Channels.newChannel(out))) {
+            writer.write(chunk("a", "b"));
+            writer.write(chunk("c", "d"));
+        }
+        final String sql = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertThat(sql.split("INSERT INTO").length - 1, is(2));
+        assertThat(sql.contains("('c', 42, 0.5);\nINSERT INTO"), is(true));
+    }
+
+    @Test
+    public void quotesForMysql() throws IOException {
+        assertThat(write(SqlInsertWriter.builder("people").dialect(SqlDialect.MYSQL), chunk("it's C:\\dir")),
+                is("INSERT INTO `people` (`name`, `age`, `score`) VALUES\n('it''s C:\\\\dir', 42, 0.5);\n"));
+    }
+
+    @Test
+    public void writesNationalLiteralsForSqlServer() throws IOException {
+        assertThat(write(SqlInsertWriter.builder("people").dialect(SqlDialect.SQL_SERVER), chunk("東京")),
+                is("INSERT INTO [people] ([name], [age], [score]) VALUES\n(N'東京', 42, 0.5);\n"));
+    }
+
+    @Test
+    public void writesInsertAllForOracle() throws IOException {
+        assertThat(write(SqlInsertWriter.builder("people").dialect(SqlDialect.ORACLE), chunk("a", "b")),
+                is("INSERT ALL\n"
+                        + "INTO \"people\" (\"name\", \"age\", \"score\") VALUES ('a', 42, 0.5)\n"
+                        + "INTO \"people\" (\"name\", \"age\", \"score\") VALUES ('b', 42, 0.5)\n"
+                        + "SELECT 1 FROM DUAL;\n"));
+    }
+
+    @Test
+    public void writesUnquotedIdentifiers() throws IOException {
+        assertThat(write(SqlInsertWriter.builder("app.people").quoteIdentifiers(false), chunk("a")),
+                is("INSERT INTO app.people (name, age, score) VALUES\n('a', 42, 0.5);\n"));
+    }
+
+    @Test
+    public void quotesIdentifiers() {
+        assertThat(SqlDialect.ANSI.quoteIdentifier("a\"b"), is("\"a\"\"b\""));
+        assertThat(SqlDialect.SQL_SERVER.quoteIdentifier("a]b"), is("[a]]b]"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sqlServerBatchSizeIsLimited() throws IOException {
+        SqlInsertWriter.builder("t").dialect(SqlDialect.SQL_SERVER).batchSize(1001)
+                .build(Channels.newChannel(new ByteArrayOutputStream()));
+    }
+
+    private Chunk chunk(String... names) {
+        final Chunk chunk = schema.newChunk(names.length);
+        schema.fill(faker, chunk, names.length);
+        System.arraycopy(names, 0, chunk.strings(0), 0, names.length);
+        return chunk;
+    }
+
+    private String write(SqlInsertWriter.Builder builder, Chunk chunk) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SqlInsertWriter writer = builder.build(Channels.newChannel(out))) {
+            writer.write(chunk);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
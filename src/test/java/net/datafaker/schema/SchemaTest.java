@@ -0,0 +1,100 @@
+package net.datafaker.schema;
+
+import net.datafaker.AbstractFakerTest;
+import net.datafaker.Faker;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.emptyOrNullString;
+
+public class SchemaTest extends AbstractFakerTest {
+
+    private final Schema schema = Schema.builder()
+            .column("first_name", "name.first_name")
+            .column("email", "#{Internet.emailAddress}")
+            .column("number", "number.number_between '1','100'")
+            .column("city", f -> f.address().city())
+            .intColumn("age", f -> f.number().numberBetween(18, 100))
+            .longColumn("id", f -> f.number().randomNumber())
+            .doubleColumn("score", f -> f.random().nextDouble())
+            .build();
+
+    @Test
+    public void fillsColumns() {
+        final Chunk chunk = schema.newChunk(100);
+        schema.fill(faker, chunk, 100);
+
+        assertThat(chunk.size(), is(100));
+        for (int row = 0; row < chunk.size(); row++) {
+            assertThat(chunk.strings(0)[row], not(emptyOrNullString()));
+            assertThat(chunk.strings(1)[row], matchesRegularExpression(".+@.+"));
+            assertThat(Integer.parseInt(chunk.strings(2)[row]), is(both(greaterThanOrEqualTo(1)).and(lessThanOrEqualTo(100))));
+            assertThat(chunk.strings(3)[row], not(emptyOrNullString()));
+            assertThat(chunk.ints(4)[row], is(both(greaterThanOrEqualTo(18)).and(lessThanOrEqualTo(100))));
+            assertThat(chunk.doubles(6)[row] < 1.0, is(true));
+        }
+        assertThat(chunk.value(4, 0), is(chunk.ints(4)[0]));
+    }
+
+    @Test
+    public void generatesAllRowsInChunks() {
+        final List<Integer> sizes = new ArrayList<>();
+        schema.generate(faker, 250, 100, chunk -> sizes.add(chunk.size()));
+        assertThat(sizes.toString(), is("[100, 100, 50]"));
+    }
+
+    @Test
+    public void sameSeedGivesSameRecords() {
+        final List<String> first = new ArrayList<>();
+        final List<String> second = new ArrayList<>();
+        schema.generate(new Faker(new Random(1)), 20, 8, chunk -> collect(chunk, first));
+        schema.generate(new Faker(new Random(1)), 20, 3, chunk -> collect(chunk, second));
+        assertThat(second, is(first));
+    }
+
+    @Test
+    public void indexOf() {
+        assertThat(schema.indexOf("age"), is(4));
+        assertThat(schema.indexOf("nope"), is(-1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void wrongColumnType() {
+        schema.newChunk(1).ints(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void duplicateColumn() {
+        Schema.builder().column("a", "name.first_name").column("a", "name.last_name");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooManyRows() {
+        schema.fill(faker, schema.newChunk(1), 2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void chunkOfAnotherSchema() {
+        schema.fill(faker, Schema.builder().column("a", "name.first_name").build().newChunk(1), 1);
+    }
+
+    private static void collect(Chunk chunk, List<String> rows) {
+        for (int row = 0; row < chunk.size(); row++) {
+            final StringBuilder record = new StringBuilder();
+            for (int c = 0; c < chunk.getSchema().getColumns().size(); c++) {
+                record.append(chunk.value(c, row)).append(',');
+            }
+            rows.add(record.toString());
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package net.datafaker.service;
+
+import org.junit.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class BinaryDictionaryTest {
+
+    @Test
+    public void roundTrip() throws IOException {
+        Map<Object, Object> document = new LinkedHashMap<>();
+        document.put("string", "value");
+        document.put("list", Arrays.asList("a", "b", "value"));
+        document.put("nested", Collections.singletonMap("key", Arrays.asList(1, 2L, 3.5, true, false, null)));
+        document.put(false, "boolean key");
+
+        assertThat(roundTrip(document), is((Object) document));
+    }
+
+    @Test
+    public void stringsAreShared() throws IOException {
+        Object read = roundTrip(Arrays.asList(new String("value"), new String("value")));
+
+        assertThat(((List<?>) read).get(0), is(sameInstance(((List<?>) read).get(1))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    @SuppressWarnings("unchecked")
+    public void readDocumentIsImmutable() throws IOException {
+        ((Map<Object, Object>) roundTrip(new LinkedHashMap<>())).put("key", "value");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsupportedValuesAreRejected() throws IOException {
+        BinaryDictionary.write(new Date(), new ByteArrayOutputStream());
+    }
+
+    @Test
+    public void sameAsYaml() throws IOException {
+        Object yaml;
+        try (InputStream in = getClass().getResourceAsStream("/en/name.yml")) {
+            yaml = new Yaml().load(in);
+        }
+
+        assertThat(roundTrip(yaml), is(yaml));
+    }
+
+    @Test
+    public void binaryName() {
+        assertThat(BinaryDictionary.binaryName("/en/name.yml"), is("/en/name.bin"));
+        assertThat(BinaryDictionary.binaryName("/en/name"), is("/en/name.bin"));
+    }
+
+    private static Object roundTrip(Object document) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryDictionary.write(document, out);
+        return BinaryDictionary.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
@@ -0,0 +1,52 @@
+package net.datafaker.service;
+
+import net.datafaker.Faker;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+public class CounterBasedRandomTest {
+
+    @Test
+    public void sameSeedAndIndexGiveSameStream() {
+        final CounterBasedRandom first = new CounterBasedRandom(42, 5_000_000_000L);
+        final CounterBasedRandom second = new CounterBasedRandom(42, 5_000_000_000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(first.nextLong(), is(second.nextLong()));
+        }
+    }
+
+    @Test
+    public void indexesGiveDifferentStreams() {
+        assertThat(new CounterBasedRandom(42, 0).nextLong(), is(not(new CounterBasedRandom(42, 1).nextLong())));
+        assertThat(new CounterBasedRandom(42, 0).nextLong(), is(not(new CounterBasedRandom(43, 0).nextLong())));
+    }
+
+    @Test
+    public void resetRestartsStream() {
+        final CounterBasedRandom random = new CounterBasedRandom(42, 7);
+        final double first = random.nextGaussian();
+        random.nextLong();
+        random.reset(42, 7);
+        assertThat(random.nextGaussian(), is(first));
+    }
+
+    @Test
+    public void setSeedStartsStreamZero() {
+        final CounterBasedRandom random = new CounterBasedRandom(1, 7);
+        random.setSeed(42);
+        assertThat(random.nextLong(), is(new CounterBasedRandom(42, 0).nextLong()));
+    }
+
+    @Test
+    public void fakerAtIndexIsReproducible() {
+        final Faker first = new Faker(new Random(1));
+        final Faker second = new Faker(new Random(1));
+        assertThat(second.at(5_000_000_000L).name().fullName(), is(first.at(5_000_000_000L).name().fullName()));
+        assertThat(first.at(3).address().fullAddress(), is(first.at(3).address().fullAddress()));
+    }
+}
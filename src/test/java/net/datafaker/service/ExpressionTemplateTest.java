@@ -0,0 +1,62 @@
+package net.datafaker.service;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ExpressionTemplateTest {
+
+    @Test
+    public void literalAndDirectiveSegments() {
+        List<ExpressionTemplate.Segment> segments = ExpressionTemplate.compile("Hello #{Name.first_name}!").getSegments();
+
+        assertThat(segments.size(), is(3));
+        assertThat(segments.get(0).isDirective(), is(false));
+        assertThat(segments.get(0).getText(), is("Hello "));
+        assertThat(segments.get(1).isDirective(), is(true));
+        assertThat(segments.get(1).getText(), is("#{Name.first_name}"));
+        assertThat(segments.get(1).getDirective(), is("Name.first_name"));
+        assertThat(segments.get(1).getArgs(), is(Collections.<String>emptyList()));
+        assertThat(segments.get(2).getText(), is("!"));
+    }
+
+    @Test
+    public void directiveArguments() {
+        List<ExpressionTemplate.Segment> segments = ExpressionTemplate.compile("#{number_between '1','10'}").getSegments();
+
+        assertThat(segments.size(), is(1));
+        assertThat(segments.get(0).getDirective(), is("number_between"));
+        assertThat(segments.get(0).getArgs(), is(Arrays.asList("1", "10")));
+    }
+
+    @Test
+    public void adjacentDirectives() {
+        List<ExpressionTemplate.Segment> segments = ExpressionTemplate.compile("#{x}#{y} #{x}").getSegments();
+
+        assertThat(segments.size(), is(4));
+        assertThat(segments.get(0).getDirective(), is("x"));
+        assertThat(segments.get(1).getDirective(), is("y"));
+        assertThat(segments.get(2).getText(), is(" "));
+        assertThat(segments.get(3).getDirective(), is("x"));
+    }
+
+    @Test
+    public void malformedDirectiveIsLiteral() {
+        List<ExpressionTemplate.Segment> segments = ExpressionTemplate.compile("#{not closed").getSegments();
+
+        assertThat(segments.size(), is(1));
+        assertThat(segments.get(0).isDirective(), is(false));
+        assertThat(segments.get(0).getText(), is("#{not closed"));
+    }
+
+    @Test
+    public void compiledTemplatesAreCached() {
+        assertThat(ExpressionTemplate.compile("#{a} #{b}"), is(sameInstance(ExpressionTemplate.compile("#{a} #{b}"))));
+    }
+}
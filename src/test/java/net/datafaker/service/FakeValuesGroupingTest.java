@@ -8,8 +8,10 @@ import java.util.Locale;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
 
 @SuppressWarnings("unchecked")
 public class FakeValuesGroupingTest {
@@ -42,4 +44,20 @@ public class FakeValuesGroupingTest {
         assertThat(fakeValuesGrouping.get("creature"), is(notNullValue()));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void mergesFilesWithTheSamePath() {
+        FakeValues animalValues = new FakeValues(Locale.ENGLISH, "animal.yml", "creature");
+        FakeValues catValues = new FakeValues(Locale.ENGLISH, "cat.yml", "creature");
+        fakeValuesGrouping.add(animalValues);
+        fakeValuesGrouping.add(catValues);
+
+        assertThat(fakeValuesGrouping.get("creature").keySet(), hasItems("animal", "cat"));
+        assertThat(animalValues.get("creature").containsKey("cat"), is(false));
+        assertThat(catValues.get("creature").containsKey("animal"), is(false));
+    }
+
+    @Test
+    public void unknownPathReturnsNull() {
+        assertThat(fakeValuesGrouping.get("creature"), is(nullValue()));
+    }
+}
@@ -25,7 +25,9 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.oneOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.doReturn;
@@ -70,6 +72,14 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
         assertThat(fakeValuesService.fetchObject("property.dummy"), Is.is(Arrays.asList("x", "y", "z")));
     }
 
+    @Test
+    public void fetchObjectShouldReturnSameValueOnRepeatedCalls() {
+        final Object first = fakeValuesService.fetchObject("property.dummy");
+        assertThat(fakeValuesService.fetchObject("property.dummy"), sameInstance(first));
+        assertThat(fakeValuesService.fetchObject("property.dummy2"), nullValue());
+        assertThat(fakeValuesService.fetchObject("property.dummy2"), nullValue());
+    }
+
     @Test
     public void safeFetchShouldReturnValueInList() {
         doReturn(0).when(randomService).nextInt(Mockito.anyInt());
@@ -140,6 +150,14 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
         verifyNoMoreInteractions(faker);
     }
 
+    @Test
+    public void resolveKeyToStaticMethod() {
+        // #{hello} -> StaticService.hello
+        final String actual = fakeValuesService.resolve("property.simpleResolution", new StaticService(), faker);
+
+        assertThat(actual, is("Static hello"));
+    }
+
     @Test
     public void resolveKeyToPropertyWithAPropertyWithAnObject() {
         // given
@@ -341,6 +359,12 @@ public class FakeValuesServiceTest extends AbstractFakerTest {
         }
     }
 
+    public static class StaticService {
+        public static String hello() {
+            return "Static hello";
+        }
+    }
+
     public static class DummyService {
         public String firstName() {
             return "John";
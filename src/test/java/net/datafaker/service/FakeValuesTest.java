@@ -1,19 +1,29 @@
 package net.datafaker.service;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
 import java.util.Locale;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 
 public class FakeValuesTest {
 
     private static final String PATH = "address";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
     private FakeValues fakeValues;
 
     @Before
@@ -59,4 +69,35 @@ public class FakeValuesTest {
         assertThat(fakeValues.get(PATH), is(nullValue()));
     }
 
+    @Test
+    public void valuesAreSharedBetweenInstances() {
+        FakeValues other = new FakeValues(Locale.ENGLISH, "address.yml", PATH);
+        assertThat(other.get(PATH), is(sameInstance(fakeValues.get(PATH))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void sharedValuesAreImmutable() {
+        fakeValues.get(PATH).put("dog", "woof");
+    }
+
+    @Test
+    public void binaryDictionaryIsOnlyUsedNextToItsYaml() throws IOException {
+        final File root = folder.newFolder("root");
+        final File other = folder.newFolder("other");
+        final File yaml = new File(new File(root, "en"), "name.yml");
+        final File binary = new File(yaml.getParentFile(), BinaryDictionary.binaryName("name.yml"));
+        final File otherYaml = new File(new File(other, "en"), "name.yml");
+        assertThat(yaml.getParentFile().mkdir() && otherYaml.getParentFile().mkdir(), is(true));
+        Files.write(yaml.toPath(), new byte[0]);
+        Files.write(binary.toPath(), new byte[0]);
+        Files.write(otherYaml.toPath(), new byte[0]);
+        final URL binaryUrl = binary.toURI().toURL();
+
+        assertThat(yaml.setLastModified(1_000_000) && binary.setLastModified(2_000_000), is(true));
+        assertThat(FakeValues.isCompiledFrom(binaryUrl, yaml.toURI().toURL(), "/en/name.yml"), is(true));
+        assertThat(FakeValues.isCompiledFrom(binaryUrl, otherYaml.toURI().toURL(), "/en/name.yml"), is(false));
+
+        assertThat(yaml.setLastModified(3_000_000), is(true));
+        assertThat(FakeValues.isCompiledFrom(binaryUrl, yaml.toURI().toURL(), "/en/name.yml"), is(false));
+    }
 }
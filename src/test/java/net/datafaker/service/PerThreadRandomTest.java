@@ -0,0 +1,84 @@
+package net.datafaker.service;
+
+import net.datafaker.Faker;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class PerThreadRandomTest {
+
+    @Test
+    public void sameSeedGivesSameStream() {
+        assertThat(draw(new PerThreadRandom(42)), is(draw(new PerThreadRandom(42))));
+    }
+
+    @Test
+    public void differentSeedsGiveDifferentStreams() {
+        assertThat(draw(new PerThreadRandom(42)), is(not(draw(new PerThreadRandom(43)))));
+    }
+
+    @Test
+    public void threadsGetTheirOwnStream() throws Exception {
+        final PerThreadRandom random = new PerThreadRandom(42);
+        final List<Long> first = draw(random);
+
+        assertThat(drawInNewThread(random), is(not(first)));
+        assertThat(draw(new PerThreadRandom(42)), is(first));
+    }
+
+    @Test
+    public void streamOfNthThreadIsReproducible() throws Exception {
+        assertThat(drawInNewThread(new PerThreadRandom(7)), is(drawInNewThread(new PerThreadRandom(7))));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void seedCannotBeChanged() {
+        new PerThreadRandom(42).setSeed(1);
+    }
+
+    @Test
+    public void fakerCanBeSharedBetweenThreads() throws Exception {
+        final Faker faker = new Faker(new PerThreadRandom(42));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> names = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                names.add(executor.submit(() -> faker.name().fullName() + faker.address().city()));
+            }
+            final List<String> results = new ArrayList<>();
+            for (Future<String> name : names) {
+                results.add(name.get());
+            }
+            assertThat(results, everyItem(notNullValue()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Long> draw(Random random) {
+        final List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            values.add(random.nextLong());
+        }
+        return values;
+    }
+
+    private static List<Long> drawInNewThread(Random random) throws Exception {
+        final List<List<Long>> result = new ArrayList<>();
+        final Thread thread = new Thread(() -> result.add(draw(random)));
+        thread.start();
+        thread.join();
+        return result.get(0);
+    }
+}
@@ -0,0 +1,71 @@
+package net.datafaker.service;
+
+import org.junit.Test;
+
+import java.util.BitSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+
+public class PermutationTest {
+
+    @Test
+    public void isBijection() {
+        for (long size : new long[] {1, 2, 3, 5, 16, 17, 100, 1_000, 65_536, 100_003}) {
+            final Permutation permutation = new Permutation(size, 42);
+            final BitSet seen = new BitSet();
+            for (long i = 0; i < size; i++) {
+                final long image = permutation.apply(i);
+                assertThat(image < size && image >= 0, is(true));
+                assertThat(seen.get((int) image), is(false));
+                seen.set((int) image);
+            }
+            assertThat((long) seen.cardinality(), is(size));
+        }
+    }
+
+    @Test
+    public void orderDependsOnSeed() {
+        final Permutation first = new Permutation(1_000, 1);
+        final Permutation same = new Permutation(1_000, 1);
+        final Permutation other = new Permutation(1_000, 2);
+        final StringBuilder a = new StringBuilder();
+        final StringBuilder b = new StringBuilder();
+        final StringBuilder c = new StringBuilder();
+        for (long i = 0; i < 20; i++) {
+            a.append(first.apply(i)).append(',');
+            b.append(same.apply(i)).append(',');
+            c.append(other.apply(i)).append(',');
+        }
+        assertThat(a.toString(), is(b.toString()));
+        assertThat(a.toString(), is(not(c.toString())));
+    }
+
+    @Test
+    public void isNotIdentity() {
+        final Permutation permutation = new Permutation(1_000_000, 7);
+        int fixedPoints = 0;
+        for (long i = 0; i < 1_000; i++) {
+            if (permutation.apply(i) == i) {
+                fixedPoints++;
+            }
+        }
+        assertThat(fixedPoints, is(lessThan(5)));
+    }
+
+    @Test
+    public void supportsLargestDomain() {
+        final Permutation permutation = new Permutation(Long.MAX_VALUE, 3);
+        for (long i : new long[] {0, 1, Long.MAX_VALUE - 1}) {
+            final long image = permutation.apply(i);
+            assertThat(image >= 0 && image < Long.MAX_VALUE, is(true));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void indexMustBeInDomain() {
+        new Permutation(10, 0).apply(10);
+    }
+}
@@ -0,0 +1,80 @@
+package net.datafaker.service;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+public class PoissonSamplerTest {
+    private static final int COUNT = 100_000;
+
+    @Test
+    public void meanAndVariance() {
+        final RandomService random = new RandomService(new Random(1));
+        for (double mean : new double[] {0.5, 3.5, 9.99, 10, 42, 1_000, 1e6}) {
+            final PoissonSampler sampler = new PoissonSampler(mean);
+            double sum = 0;
+            double sumOfSquares = 0;
+            for (int i = 0; i < COUNT; i++) {
+                final long k = sampler.sample(random);
+                assertThat(k >= 0, is(true));
+                sum += k;
+                sumOfSquares += (double) k * k;
+            }
+            final double average = sum / COUNT;
+            assertThat("mean " + mean, average, closeTo(mean, 5 * Math.sqrt(mean / COUNT)));
+            assertThat("mean " + mean, sumOfSquares / COUNT - average * average, closeTo(mean, 0.03 * mean));
+        }
+    }
+
+    @Test
+    public void probabilities() {
+        final RandomService random = new RandomService(new Random(2));
+        for (double mean : new double[] {3.5, 15}) {
+            final PoissonSampler sampler = new PoissonSampler(mean);
+            final int mode = (int) mean;
+            int zeros = 0;
+            int modes = 0;
+            for (int i = 0; i < COUNT; i++) {
+                final long k = sampler.sample(random);
+                if (k == 0) zeros++;
+                if (k == mode) modes++;
+            }
+            assertThat(zeros / (double) COUNT, closeTo(Math.exp(-mean), 0.003));
+            final double modeProbability = Math.exp(-mean + mode * Math.log(mean) - PoissonSampler.logFactorial(mode));
+            assertThat(modes / (double) COUNT, closeTo(modeProbability, 0.005));
+        }
+    }
+
+    @Test
+    public void zeroMean() {
+        final PoissonSampler sampler = new PoissonSampler(0);
+        final RandomService random = new RandomService(new Random(1));
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(random), is(0L));
+        }
+    }
+
+    @Test
+    public void logFactorial() {
+        double sum = 0;
+        for (int k = 1; k <= 1_000; k++) {
+            sum += Math.log(k);
+            assertThat(PoissonSampler.logFactorial(k), closeTo(sum, 1e-9 * sum));
+        }
+        assertThat(PoissonSampler.logFactorial(0), is(0.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeMean() {
+        new PoissonSampler(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nanMean() {
+        new PoissonSampler(Double.NaN);
+    }
+}
@@ -0,0 +1,105 @@
+package net.datafaker.service;
+
+import net.datafaker.Faker;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assume.assumeTrue;
+
+public class RandomGeneratorsTest {
+
+    @Test
+    public void xoshiro256StarStarMatchesReference() {
+        final Random random = RandomGenerators.xoshiro256StarStar(42);
+        assertThat(random.nextLong(), is(1546998764402558742L));
+        assertThat(random.nextLong(), is(6990951692964543102L));
+        assertThat(random.nextLong(), is(-5902157311460992607L));
+    }
+
+    @Test
+    public void pcg64MatchesReference() {
+        final Random random = RandomGenerators.pcg64(42);
+        assertThat(random.nextLong(), is(-3925716857028672737L));
+        assertThat(random.nextLong(), is(-224142751164722861L));
+        assertThat(random.nextLong(), is(472411332899497233L));
+    }
+
+    @Test
+    public void splittableMatchesSplittableRandom() {
+        final Random random = RandomGenerators.splittable(42);
+        final java.util.SplittableRandom reference = new java.util.SplittableRandom(42);
+        for (int i = 0; i < 10; i++) {
+            assertThat(random.nextLong(), is(reference.nextLong()));
+        }
+    }
+
+    @Test
+    public void multiplyHighUnsigned() {
+        assertThat(RandomGenerators.Pcg64.multiplyHighUnsigned(-1L, -1L), is(-2L));
+        assertThat(RandomGenerators.Pcg64.multiplyHighUnsigned(1L << 32, 1L << 32), is(1L));
+        assertThat(RandomGenerators.Pcg64.multiplyHighUnsigned(0x2360ED051FC65DA4L, 3L), is(0L));
+    }
+
+    @Test
+    public void sameSeedGivesSameFakes() {
+        assertThat(new Faker(RandomGenerators.pcg64(7)).name().fullName(),
+                is(new Faker(RandomGenerators.pcg64(7)).name().fullName()));
+        assertThat(new Faker(RandomGenerators.xoshiro256StarStar(7)).lorem().characters(32),
+                is(new Faker(RandomGenerators.xoshiro256StarStar(7)).lorem().characters(32)));
+    }
+
+    @Test
+    public void generatorsDiffer() {
+        assertThat(RandomGenerators.pcg64(7).nextLong(), is(not(RandomGenerators.xoshiro256StarStar(7).nextLong())));
+    }
+
+    @Test
+    public void boundedIntsAreInRange() {
+        final Random random = RandomGenerators.xoshiro256StarStar(1);
+        for (int bound : new int[]{1, 2, 3, 10, 1_000_003, Integer.MAX_VALUE}) {
+            for (int i = 0; i < 1_000; i++) {
+                final int value = random.nextInt(bound);
+                assertThat(value >= 0 && value < bound, is(true));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveBoundIsRejected() {
+        RandomGenerators.splittable(1).nextInt(0);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void seedCannotBeChanged() {
+        RandomGenerators.pcg64(1).setSeed(2);
+    }
+
+    @Test
+    public void jdkGenerator() {
+        assumeTrue(hasJavaUtilRandom());
+        final Random first = RandomGenerators.jdk("L64X128MixRandom", 42);
+        final Random second = RandomGenerators.jdk("L64X128MixRandom", 42);
+        for (int i = 0; i < 10; i++) {
+            assertThat(first.nextLong(), is(second.nextLong()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknownJdkGenerator() {
+        assumeTrue(hasJavaUtilRandom());
+        RandomGenerators.jdk("NoSuchRandom", 42);
+    }
+
+    private static boolean hasJavaUtilRandom() {
+        try {
+            Class.forName("java.util.random.RandomGenerator");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
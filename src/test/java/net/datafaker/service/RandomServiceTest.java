@@ -34,6 +34,10 @@ public class RandomServiceTest extends AbstractFakerTest {
     public static Collection<Object[]> data() {
         Object[][] data = new Object[][]{
                 {"RandomService(Random)", new RandomService(new Random())},
+                {"RandomService(PerThreadRandom)", new RandomService(new PerThreadRandom(1))},
+                {"RandomService(splittable)", new RandomService(RandomGenerators.splittable(1))},
+                {"RandomService(xoshiro256**)", new RandomService(RandomGenerators.xoshiro256StarStar(1))},
+                {"RandomService(pcg64)", new RandomService(RandomGenerators.pcg64(1))},
                 {"RandomService()", new RandomService()}
         };
         return Arrays.asList(data);
@@ -80,6 +84,15 @@ public class RandomServiceTest extends AbstractFakerTest {
         }
     }
 
+    @Test
+    public void testIntsInRange() {
+        final int[] ints = new int[1_000];
+        randomService.nextInts(ints, 7);
+        for (int i : ints) {
+            assertThat(i, both(lessThan(7)).and(greaterThanOrEqualTo(0)));
+        }
+    }
+
     @Test
     public void testHex() {
         assertThat(randomService.hex(8), matchesRegularExpression("^[0-9A-F]{8}$"));
@@ -0,0 +1,53 @@
+package net.datafaker.service;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static net.datafaker.matchers.MatchesRegularExpression.matchesRegularExpression;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class RegexAutomatonTest {
+
+    private final RandomService randomService = new RandomService(new Random());
+
+    @Test
+    public void generatesMatchingStrings() {
+        String[] regexes = {
+                "[A-Z]{4}[A-Z]{2}[A-Z0-9]{2}([A-Z0-9]{3})?",
+                "[0-8]\\d{2}-\\d{2}-\\d{4}",
+                "\\w{3}\\s\\W",
+                "(a|b){2,3}",
+                "[A-Z0-9]{1,}",
+                "978|979"
+        };
+        for (String regex : regexes) {
+            RegexAutomaton automaton = RegexAutomaton.compile(regex);
+            for (int i = 0; i < 100; i++) {
+                assertThat(automaton.random(randomService), matchesRegularExpression(regex));
+            }
+        }
+    }
+
+    @Test
+    public void quotedSectionsAreLiteral() {
+        assertThat(RegexAutomaton.compile("\\Q.*?+\\E[0-9]").random(randomService), matchesRegularExpression("\\.\\*\\?\\+[0-9]"));
+    }
+
+    @Test
+    public void sameSeedSameStrings() {
+        RegexAutomaton automaton = RegexAutomaton.compile("[A-Z]{2}[0-9]{2}[A-Z0-9]{11,30}");
+        RandomService first = new RandomService(new Random(42));
+        RandomService second = new RandomService(new Random(42));
+        for (int i = 0; i < 100; i++) {
+            assertThat(automaton.random(first), is(automaton.random(second)));
+        }
+    }
+
+    @Test
+    public void compiledAutomataAreCached() {
+        assertThat(RegexAutomaton.compile("[45]{2}"), is(sameInstance(RegexAutomaton.compile("[45]{2}"))));
+    }
+}
@@ -0,0 +1,72 @@
+package net.datafaker.service;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+public class ZigguratTest {
+    private static final int COUNT = 200_000;
+
+    @Test
+    public void normalMoments() {
+        final RandomService random = new RandomService(new Random(1));
+        double sum = 0;
+        double sumOfSquares = 0;
+        int belowMinusOne = 0;
+        int belowHalf = 0;
+        int tail = 0;
+        for (int i = 0; i < COUNT; i++) {
+            final double x = Ziggurat.normal(random);
+            sum += x;
+            sumOfSquares += x * x;
+            if (x < -1) belowMinusOne++;
+            if (x < 0.5) belowHalf++;
+            if (Math.abs(x) > 3.5) tail++;
+        }
+        final double mean = sum / COUNT;
+        assertThat(mean, closeTo(0, 0.01));
+        assertThat(sumOfSquares / COUNT - mean * mean, closeTo(1, 0.02));
+        assertThat(belowMinusOne / (double) COUNT, closeTo(0.158655, 0.004));
+        assertThat(belowHalf / (double) COUNT, closeTo(0.691462, 0.004));
+        // 93 expected, beyond the last layer
+        assertThat(tail, greaterThan(50));
+    }
+
+    @Test
+    public void exponentialMoments() {
+        final RandomService random = new RandomService(new Random(1));
+        double sum = 0;
+        double sumOfSquares = 0;
+        int aboveOne = 0;
+        int tail = 0;
+        for (int i = 0; i < COUNT; i++) {
+            final double x = Ziggurat.exponential(random);
+            assertThat(x >= 0, is(true));
+            sum += x;
+            sumOfSquares += x * x;
+            if (x > 1) aboveOne++;
+            if (x > 8) tail++;
+        }
+        final double mean = sum / COUNT;
+        assertThat(mean, closeTo(1, 0.01));
+        assertThat(sumOfSquares / COUNT - mean * mean, closeTo(1, 0.03));
+        assertThat(aboveOne / (double) COUNT, closeTo(Math.exp(-1), 0.004));
+        // 67 expected, beyond the last layer
+        assertThat(tail, greaterThan(30));
+    }
+
+    @Test
+    public void sameSeedSameValues() {
+        final RandomService first = new RandomService(new Random(3));
+        final RandomService second = new RandomService(new Random(3));
+        for (int i = 0; i < 100; i++) {
+            assertThat(Ziggurat.normal(first), is(Ziggurat.normal(second)));
+            assertThat(Ziggurat.exponential(first), is(Ziggurat.exponential(second)));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package net.datafaker.service;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+public class ZipfSamplerTest {
+    private static final int COUNT = 200_000;
+
+    @Test
+    public void frequencies() {
+        final RandomService random = new RandomService(new Random(1));
+        for (double exponent : new double[] {0.5, 1, 1.0000001, 2.5}) {
+            final int n = 20;
+            final ZipfSampler sampler = new ZipfSampler(n, exponent);
+            final int[] counts = new int[n + 1];
+            for (int i = 0; i < COUNT; i++) {
+                final long k = sampler.sample(random);
+                assertThat(k >= 1 && k <= n, is(true));
+                counts[(int) k]++;
+            }
+            double harmonic = 0;
+            for (int k = 1; k <= n; k++) {
+                harmonic += Math.pow(k, -exponent);
+            }
+            for (int k = 1; k <= n; k++) {
+                final double expected = Math.pow(k, -exponent) / harmonic;
+                assertThat("exponent " + exponent + ", rank " + k, counts[k] / (double) COUNT,
+                    closeTo(expected, 5 * Math.sqrt(expected / COUNT) + 1e-4));
+            }
+        }
+    }
+
+    @Test
+    public void largeNumberOfElements() {
+        final RandomService random = new RandomService(new Random(1));
+        final ZipfSampler sampler = new ZipfSampler(Long.MAX_VALUE / 2, 1.1);
+        for (int i = 0; i < 10_000; i++) {
+            final long k = sampler.sample(random);
+            assertThat(k >= 1 && k <= Long.MAX_VALUE / 2, is(true));
+        }
+    }
+
+    @Test
+    public void singleElement() {
+        final RandomService random = new RandomService(new Random(1));
+        final ZipfSampler sampler = new ZipfSampler(1, 1);
+        for (int i = 0; i < 100; i++) {
+            assertThat(sampler.sample(random), is(1L));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void noElements() {
+        new ZipfSampler(0, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroExponent() {
+        new ZipfSampler(10, 0);
+    }
+}
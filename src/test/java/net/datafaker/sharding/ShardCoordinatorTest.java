@@ -0,0 +1,146 @@
+package net.datafaker.sharding;
+
+import net.datafaker.Faker;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+public class ShardCoordinatorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    public static class NameGenerator implements LineGenerator {
+        @Override
+        public String generate(Faker faker) {
+            return faker.name().fullName() + "," + faker.address().city();
+        }
+    }
+
+    public static class FailingGenerator implements LineGenerator {
+        @Override
+        public String generate(Faker faker) {
+            throw new IllegalStateException("failing");
+        }
+    }
+
+    @Test
+    public void shardsAreConcatenatedInOrder() throws Exception {
+        final Path expected = folder.newFile("expected.csv").toPath();
+        ShardWorker.write(new NameGenerator(), Locale.ENGLISH, 42, 0, 100, expected);
+
+        final Path output = folder.getRoot().toPath().resolve("output.csv");
+        ShardCoordinator.builder(NameGenerator.class, 100, 42)
+                .shards(3)
+                .parallelism(2)
+                .build()
+                .run(output);
+
+        final List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertThat(lines, hasSize(100));
+        assertThat(lines, is(Files.readAllLines(expected, StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void workersUseTheLocale() throws Exception {
+        final Locale locale = new Locale("pt-BR");
+        final Path expected = folder.newFile("expected.csv").toPath();
+        ShardWorker.write(new NameGenerator(), locale, 42, 0, 20, expected);
+        final Path english = folder.newFile("english.csv").toPath();
+        ShardWorker.write(new NameGenerator(), Locale.ENGLISH, 42, 0, 20, english);
+
+        final Path output = folder.getRoot().toPath().resolve("output.csv");
+        ShardCoordinator.builder(NameGenerator.class, 20, 42)
+                .locale(locale)
+                .shards(2)
+                .parallelism(2)
+                .build()
+                .run(output);
+
+        final List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+        assertThat(lines, is(Files.readAllLines(expected, StandardCharsets.UTF_8)));
+        assertThat(lines, is(not(Files.readAllLines(english, StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void shardFilesAreKept() throws Exception {
+        final Path directory = folder.newFolder().toPath();
+        final List<Path> files = ShardCoordinator.builder(NameGenerator.class, 10, 1)
+                .shards(2)
+                .parallelism(2)
+                .build()
+                .generateShards(directory);
+        assertThat(files, hasSize(2));
+        assertThat(Files.readAllLines(files.get(1), StandardCharsets.UTF_8), hasSize(5));
+    }
+
+    @Test(expected = IOException.class)
+    public void failingWorkerFailsTheRun() throws Exception {
+        ShardCoordinator.builder(FailingGenerator.class, 10, 1)
+                .shards(2)
+                .parallelism(1)
+                .build()
+                .run(folder.getRoot().toPath().resolve("output.csv"));
+    }
+
+    @Test
+    public void failingWorkerKeepsTheOutput() throws Exception {
+        final Path output = folder.newFile("output.csv").toPath();
+        Files.write(output, "previous\n".getBytes(StandardCharsets.UTF_8));
+        try {
+            ShardCoordinator.builder(FailingGenerator.class, 10, 1)
+                    .shards(2)
+                    .parallelism(1)
+                    .build()
+                    .run(output);
+            fail("The run should fail");
+        } catch (IOException expected) {
+            assertThat(Files.readAllLines(output, StandardCharsets.UTF_8), contains("previous"));
+            assertThat(Files.exists(output.resolveSibling("output.csv.partial")), is(false));
+        }
+    }
+
+    @Test
+    public void firstFailureStopsTheRun() throws Exception {
+        assumeFalse(System.getProperty("os.name").startsWith("Windows"));
+        // a worker command hanging on the first shard and failing on the others
+        final Path command = folder.newFile("worker.sh").toPath();
+        Files.write(command, ("#!/bin/sh\n"
+                + "for last; do :; done\n"
+                + "case \"$last\" in *shard-0) exec sleep 60;; esac\n"
+                + "exit 3\n").getBytes(StandardCharsets.UTF_8));
+        assertThat(command.toFile().setExecutable(true), is(true));
+
+        final long start = System.nanoTime();
+        try {
+            ShardCoordinator.builder(NameGenerator.class, 10, 1)
+                    .shards(2)
+                    .parallelism(2)
+                    .javaCommand(command.toString())
+                    .build()
+                    .generateShards(folder.newFolder().toPath());
+            fail("The run should fail");
+        } catch (IOException expected) {
+            assertThat(expected.getMessage(), containsString("exit code 3"));
+        }
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start), lessThan(30L));
+    }
+}
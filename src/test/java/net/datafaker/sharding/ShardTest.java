@@ -0,0 +1,39 @@
+package net.datafaker.sharding;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+public class ShardTest {
+
+    @Test
+    public void partitionCoversAllRows() {
+        final List<Shard> shards = Shard.partition(10, 3);
+        assertThat(shards, contains(new Shard(0, 0, 4), new Shard(1, 4, 7), new Shard(2, 7, 10)));
+    }
+
+    @Test
+    public void moreShardsThanRows() {
+        final List<Shard> shards = Shard.partition(2, 4);
+        assertThat(shards, hasSize(4));
+        assertThat(shards.get(3).size(), is(0L));
+        assertThat(shards.get(1).getTo(), is(2L));
+    }
+
+    @Test
+    public void largeDataSet() {
+        final List<Shard> shards = Shard.partition(2_000_000_000L, 7);
+        assertThat(shards.get(6).getTo(), is(2_000_000_000L));
+        assertThat(shards.get(0).size() - shards.get(6).size() <= 1, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void atLeastOneShard() {
+        Shard.partition(10, 0);
+    }
+}